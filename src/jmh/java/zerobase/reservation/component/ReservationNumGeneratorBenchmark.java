@@ -0,0 +1,62 @@
+package zerobase.reservation.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약번호 발급 처리량
+ * - 한 서버(발급기 하나)에서 초당 몇 개를 발급하는지 단일 스레드 / 여러 스레드 경쟁으로 나눠 봄.
+ * - 순번이 12bit라 밀리초당 4096개보다 빨리 발급하면 다음 밀리초를 당겨 써서, 번호의 시각이 실제 시각보다 앞서 나감.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationNumGeneratorBenchmark {
+    private ReservationNumGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new ReservationNumGenerator(1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return generator.nextReservationNum();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String contended4() {
+        return generator.nextReservationNum();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String contendedMax() {
+        return generator.nextReservationNum();
+    }
+
+    /**
+     * 문자열 변환 없이 id만 (CAS 비용)
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long contendedMaxIdOnly() {
+        return generator.nextId();
+    }
+}
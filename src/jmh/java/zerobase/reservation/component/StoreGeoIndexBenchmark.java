@@ -0,0 +1,70 @@
+package zerobase.reservation.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zerobase.reservation.dto.StoreDto;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 매장 검색 조회 시간
+ * - 서울 중심 위도/경도 ±0.5도(약 110km x 90km) 안에 stores개를 고르게 뿌리고
+ *   가까운 10개(kNN)와 반경 1km 검색을 잼. 격자 한 칸은 운영 설정과 같은 0.01도.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class StoreGeoIndexBenchmark {
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LON = 126.9780;
+    private static final int QUERIES = 1024;
+
+    @Param({"100000", "1000000"})
+    public int stores;
+
+    private StoreGeoIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new StoreGeoIndex(null, 5000, 0.01);
+        for (long id = 0; id < stores; id++) {
+            index.put(id, "store" + id, SEOUL_LAT + random.nextDouble() - 0.5, SEOUL_LON + random.nextDouble() - 0.5);
+        }
+        latitudes = new double[QUERIES];
+        longitudes = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            latitudes[i] = SEOUL_LAT + random.nextDouble() - 0.5;
+            longitudes[i] = SEOUL_LON + random.nextDouble() - 0.5;
+        }
+    }
+
+    @Benchmark
+    public List<StoreDto.NearbyStore> nearest10() {
+        int i = next++ & (QUERIES - 1);
+        return index.nearest(latitudes[i], longitudes[i], 10, 50);
+    }
+
+    @Benchmark
+    public List<StoreDto.NearbyStore> withinRadius1km() {
+        int i = next++ & (QUERIES - 1);
+        return index.withinRadius(latitudes[i], longitudes[i], 1, 1000);
+    }
+}
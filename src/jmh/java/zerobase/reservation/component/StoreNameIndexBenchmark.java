@@ -0,0 +1,97 @@
+package zerobase.reservation.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zerobase.reservation.dto.StoreDto;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장명 자동완성 조회 시간 / 색인 메모리
+ * - 흔한 음절로 만든 두 단어 한글 매장명 stores개를 넣고 접두어, 단어 시작, 초성 검색을 잼 (limit 20).
+ * - 색인을 채운 뒤 GC 후 늘어난 heap을 "index heap" 줄로 출력 (대략적인 색인 크기).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class StoreNameIndexBenchmark {
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하강남서울부산대구광주맛집카페치킨피자국밥분식" +
+            "김밥떡볶이족발보쌈곱창고기회초밥라멘우동짜장짬뽕스타벅스투썸빽다방이디야본죽한솥도시락역점";
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 20;
+
+    @Param({"100000", "1000000"})
+    public int stores;
+
+    private StoreNameIndex index;
+    private String[] prefixQueries;
+    private String[] wordStartQueries;
+    private String[] chosungQueries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long before = usedHeap();
+        index = new StoreNameIndex(null, 5000);
+        String[] names = new String[stores];
+        for (int i = 0; i < stores; i++) {
+            names[i] = word(random, 2 + random.nextInt(3)) + " " + word(random, 2 + random.nextInt(2));
+            index.put((long) i, names[i]);
+        }
+        System.out.printf("index heap: about %d MB for %d stores%n", (usedHeap() - before) >> 20, stores);
+
+        prefixQueries = new String[QUERIES];
+        wordStartQueries = new String[QUERIES];
+        chosungQueries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String name = names[random.nextInt(stores)];
+            prefixQueries[i] = name.substring(0, 2);
+            wordStartQueries[i] = name.substring(name.indexOf(' ') + 1, name.indexOf(' ') + 3);
+            chosungQueries[i] = HangulNormalizer.toChosung(name.substring(0, 2));
+        }
+    }
+
+    @Benchmark
+    public List<StoreDto.Suggestion> prefix() {
+        return index.search(prefixQueries[next++ & (QUERIES - 1)], LIMIT);
+    }
+
+    @Benchmark
+    public List<StoreDto.Suggestion> wordStart() {
+        return index.search(wordStartQueries[next++ & (QUERIES - 1)], LIMIT);
+    }
+
+    @Benchmark
+    public List<StoreDto.Suggestion> chosung() {
+        return index.search(chosungQueries[next++ & (QUERIES - 1)], LIMIT);
+    }
+
+    private static String word(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,122 @@
+package zerobase.reservation.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.ReservationApplication;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.Review;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 / 리뷰 일괄 저장 처리량 (행/초)
+ * - 한 트랜잭션에서 예약 ROWS건, 리뷰 ROWS건을 saveAll로 저장.
+ * - batchSize 50(운영 설정)과 1(batch 없음)을 비교. id는 둘 다 pooled 시퀀스.
+ * - 기본은 H2 메모리 DB라 네트워크 왕복이 없어 batch 효과가 거의 드러나지 않음. MariaDB로 잴 때는 빈 스키마를 가리키도록
+ *   -jvmArgsAppend로 spring.datasource.url / driver-class-name / username / password를 넘김 (create-drop으로 테이블을 만들고 지움).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 1000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ReservationRepository reservationRepository;
+    private ReviewRepository reviewRepository;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+    private Member member;
+    private Store store;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+                .profiles("bench")
+                .properties("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)
+                .run();
+        reservationRepository = context.getBean(ReservationRepository.class);
+        reviewRepository = context.getBean(ReviewRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Manager manager = context.getBean(ManagerRepository.class).save(Manager.builder()
+                .name("manager").mail("manager@bench.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        member = context.getBean(MemberRepository.class).save(Member.builder()
+                .name("member").mail("member@bench.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        store = context.getBean(StoreRepository.class).save(Store.builder()
+                .storeName("store").location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+    }
+
+    /**
+     * 테이블이 계속 커져 인덱스 비용이 달라지지 않도록 반복마다 비움
+     */
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM review");
+        jdbcTemplate.update("DELETE FROM reservation");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS * 2)
+    public void saveReservationsAndReviews() {
+        List<Reservation> reservations = new ArrayList<>(ROWS);
+        List<Review> reviews = new ArrayList<>(ROWS);
+        LocalDateTime reservedAt = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < ROWS; i++) {
+            reservations.add(Reservation.builder()
+                    .reservationNum(Long.toString(sequence++, 36))
+                    .reservedAt(reservedAt)
+                    .status(ReservationStatus.REQUESTED)
+                    .member(member)
+                    .store(store)
+                    .build());
+            reviews.add(Review.builder()
+                    .member(member).store(store).text("text").rating(i % 5 + 1).build());
+        }
+        transaction.executeWithoutResult(status -> {
+            reservationRepository.saveAll(reservations);
+            reviewRepository.saveAll(reviews);
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package zerobase.reservation.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import zerobase.reservation.ReservationApplication;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.dto.ReservationPageDto;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관된 지난 예약이 늘어도 현재 예약 조회 시간이 그대로인지
+ * - reservation(현재) 테이블은 HOT_ROWS건으로 고정하고 reservation_archive만 archiveRows건으로 늘려 가며 잼.
+ * - hotPage: 점장 예약 목록의 오늘 이후 첫 페이지, checkInLookup: 키오스크 방문 확인의 예약번호 조회.
+ * - historyPage(보관 기준일 이전부터 보는 목록)는 보관 테이블을 함께 읽으므로 대조용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationListingBenchmark {
+    private static final int HOT_ROWS = 10_000;
+    private static final long HOT_ID_BASE = 1_000_000_000L;
+    private static final long ARCHIVE_ID_BASE = 2_000_000_000L;
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Param({"0", "100000", "1000000"})
+    public int archiveRows;
+
+    private ConfigurableApplicationContext context;
+    private ManagerService managerService;
+    private ReservationRepository reservationRepository;
+    private UserPrincipal principal;
+    private Long storeId;
+    private ReservationPageDto.Request hotRequest;
+    private ReservationPageDto.Request historyRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+                .profiles("bench")
+                .run();
+        managerService = context.getBean(ManagerService.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+
+        Manager manager = context.getBean(ManagerRepository.class).save(Manager.builder()
+                .name("manager").mail("manager@bench.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        Member member = context.getBean(MemberRepository.class).save(Member.builder()
+                .name("member").mail("member@bench.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        Store store = context.getBean(StoreRepository.class).save(Store.builder()
+                .storeName("store").location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+        principal = new UserPrincipal(manager.getId(), manager.getMail(), manager.getRole());
+        storeId = store.getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        //현재 예약은 지난 2주 ~ 앞으로 2주, 지난 예약은 3년 전부터 10분 간격
+        LocalDateTime hotFrom = LocalDateTime.now().minusDays(14);
+        insert(jdbcTemplate, "reservation", HOT_ID_BASE, HOT_ROWS, hotFrom, 4, ReservationStatus.CONFIRMED,
+                member.getId(), null);
+        LocalDateTime archiveFrom = LocalDateTime.now().minusYears(3);
+        insert(jdbcTemplate, "reservation_archive", ARCHIVE_ID_BASE, archiveRows, archiveFrom, 10, ReservationStatus.VISITED,
+                member.getId(), archiveFrom);
+
+        hotRequest = ReservationPageDto.Request.builder().from(LocalDate.now()).build();
+        historyRequest = ReservationPageDto.Request.builder().from(LocalDate.now().minusYears(1)).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationPageDto.Response hotPage() {
+        return managerService.searchReservation(storeId, hotRequest, principal);
+    }
+
+    @Benchmark
+    public Object checkInLookup() {
+        long id = HOT_ID_BASE + ThreadLocalRandom.current().nextInt(HOT_ROWS);
+        return reservationRepository.findCheckInStateByReservationNum(reservationNum(id));
+    }
+
+    @Benchmark
+    public ReservationPageDto.Response historyPage() {
+        return managerService.searchReservation(storeId, historyRequest, principal);
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, String table, long idBase, int rows, LocalDateTime from,
+                        int minutesApart, ReservationStatus status, Long memberId, LocalDateTime archivedAt) {
+        String sql = archivedAt == null
+                ? "INSERT INTO " + table + " (id, reservation_num, reserved_at, status, member_id, store_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)"
+                : "INSERT INTO " + table + " (id, reservation_num, reserved_at, status, member_id, store_id, archived_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        for (int start = 0; start < rows; start += INSERT_CHUNK) {
+            List<Object[]> batch = new ArrayList<>(INSERT_CHUNK);
+            for (int i = start; i < Math.min(start + INSERT_CHUNK, rows); i++) {
+                long id = idBase + i;
+                Timestamp reservedAt = Timestamp.valueOf(from.plusMinutes((long) minutesApart * i));
+                batch.add(archivedAt == null
+                        ? new Object[]{id, reservationNum(id), reservedAt, status.name(), memberId, storeId}
+                        : new Object[]{id, reservationNum(id), reservedAt, status.name(), memberId, storeId,
+                        Timestamp.valueOf(archivedAt)});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static String reservationNum(long id) {
+        return "B" + Long.toString(id, 36);
+    }
+}
@@ -0,0 +1,90 @@
+package zerobase.reservation.component;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import zerobase.reservation.security.UserPrincipal;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 접근 로그
+ * - "access" 로거에 method, endpoint(uri 패턴), status, 처리 시간, 사용자(role, id)를 key=value로 남김.
+ * - 5xx/4xx 응답과 slow-millis 이상 걸린 요청은 항상 남기고, 나머지는 엔드포인트별 비율만큼만 표본으로 남김.
+ *   (비율은 reservation.access-log.sample-rates, 없는 엔드포인트는 default-sample-rate)
+ * - 보안 필터보다 바깥에서 감싸 인증 실패 응답도 남김. 사용자는 JwtAuthenticationFilter가 요청 속성으로 넘겨줌.
+ * - 실제 출력은 logback-spring.xml의 비동기 appender가 맡고, 요청 스레드는 큐에 넣기만 함.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String USER_ATTRIBUTE = AccessLogFilter.class.getName() + ".user";
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private final Map<String, Double> sampleRates;
+    private final double defaultSampleRate;
+    private final long slowMillis;
+
+    public AccessLogFilter(Environment environment,
+                           @Value("${reservation.access-log.default-sample-rate}") double defaultSampleRate,
+                           @Value("${reservation.access-log.slow-millis}") long slowMillis) {
+        this.sampleRates = Binder.get(environment)
+                .bind("reservation.access-log.sample-rates", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+        this.defaultSampleRate = defaultSampleRate;
+        this.slowMillis = slowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            //예외가 밖으로 나오면 아직 응답 코드가 정해지지 않았으므로 500으로 봄
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+
+            if (isSampled(endpoint, status, elapsedMillis)) {
+                UserPrincipal user = (UserPrincipal) request.getAttribute(USER_ATTRIBUTE);
+                ACCESS_LOG.info("method={} endpoint={} status={} elapsedMs={} role={} userId={}",
+                        request.getMethod(), endpoint, status, elapsedMillis,
+                        user != null ? user.getRole() : null, user != null ? user.getId() : null);
+            }
+        }
+    }
+
+    private boolean isSampled(String endpoint, int status, long elapsedMillis) {
+        if (status >= 400 || elapsedMillis >= slowMillis) {
+            return true;
+        }
+        double rate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
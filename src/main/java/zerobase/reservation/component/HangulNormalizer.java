@@ -0,0 +1,71 @@
+package zerobase.reservation.component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색어 정규화와 한글 초성 분해
+ * - 공백을 없애고 소문자로 맞춘 뒤, 완성형 한글은 초성으로 바꿔 "ㅅㄱ"로 "서가"를 찾을 수 있게 함.
+ */
+public final class HangulNormalizer {
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulNormalizer() {
+    }
+
+    /**
+     * 조합형으로 들어온 한글을 완성형으로 합치고 공백 제거, 소문자 변환
+     */
+    public static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 완성형 한글은 초성으로, 나머지 문자는 그대로
+     */
+    public static String toChosung(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            sb.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSUNG] : c);
+        }
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_START && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 한글 자음(호환 자모)
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 검색어에 초성만 입력된 글자가 있는지
+     */
+    public static boolean hasConsonant(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (isConsonant(normalized.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
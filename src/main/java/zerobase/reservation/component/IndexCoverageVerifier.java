@@ -0,0 +1,135 @@
+package zerobase.reservation.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+import zerobase.reservation.repository.UsesIndex;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리포지토리 쿼리 메서드의 인덱스 확인
+ * - 리포지토리 인터페이스에 직접 선언한 메서드마다 @UsesIndex가 있어야 하고,
+ *   적힌 컬럼으로 시작하는 인덱스(기본 키 포함)가 DB에 있어야 함.
+ * - 하나라도 어긋나면 기동을 중단해서 인덱스 없는 쿼리가 배포되지 않도록 함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class IndexCoverageVerifier {
+    private final ApplicationContext applicationContext;
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void verify() throws SQLException {
+        List<String> problems = new ArrayList<>();
+        int checked = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+            Repositories repositories = new Repositories(applicationContext);
+            for (Class<?> domainType : repositories) {
+                Class<?> repository = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+                for (Method method : repository.getDeclaredMethods()) {
+                    if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+                    UsesIndex[] usages = method.getAnnotationsByType(UsesIndex.class);
+                    if (usages.length == 0) {
+                        problems.add(name(repository, method) + ": @UsesIndex 없음");
+                        continue;
+                    }
+                    for (UsesIndex usage : usages) {
+                        List<List<String>> indexes = indexesByTable.computeIfAbsent(
+                                usage.table(), table -> loadIndexes(connection, table));
+                        if (!isCovered(indexes, usage.columns())) {
+                            problems.add(name(repository, method) + ": " + usage.table() + "("
+                                    + String.join(", ", usage.columns()) + ") 로 시작하는 인덱스 없음");
+                        }
+                    }
+                    checked++;
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("인덱스가 없는 쿼리 메서드가 있습니다.\n" + String.join("\n", problems));
+        }
+        log.info("index coverage verified for {} repository query methods", checked);
+    }
+
+    private static boolean isCovered(List<List<String>> indexes, String[] columns) {
+        for (List<String> index : indexes) {
+            if (index.size() < columns.length) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < columns.length && matches; i++) {
+                matches = index.get(i).equalsIgnoreCase(columns[i]);
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 테이블의 인덱스별 컬럼 목록 (기본 키 포함, 컬럼 순서대로)
+     */
+    private static List<List<String>> loadIndexes(Connection connection, String table) {
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+
+            Map<String, TreeMap<Integer, String>> columnsByIndex = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(catalog, schema, tableName, false, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columnsByIndex.computeIfAbsent(index, key -> new TreeMap<>())
+                                .put((int) rs.getShort("ORDINAL_POSITION"), column);
+                    }
+                }
+            }
+            TreeMap<Integer, String> primaryKey = new TreeMap<>();
+            try (ResultSet rs = metaData.getPrimaryKeys(catalog, schema, tableName)) {
+                while (rs.next()) {
+                    primaryKey.put((int) rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+                }
+            }
+
+            List<List<String>> indexes = new ArrayList<>();
+            columnsByIndex.values().forEach(columns -> indexes.add(new ArrayList<>(columns.values())));
+            if (!primaryKey.isEmpty()) {
+                indexes.add(new ArrayList<>(primaryKey.values()));
+            }
+            return indexes;
+        } catch (SQLException e) {
+            throw new IllegalStateException("인덱스 정보를 읽지 못했습니다: " + table, e);
+        }
+    }
+
+    private static String name(Class<?> repository, Method method) {
+        return repository.getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,49 @@
+package zerobase.reservation.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import zerobase.reservation.security.UserPrincipal;
+
+import java.time.Duration;
+
+/**
+ * 방금 쓰기를 한 사용자 기록 (read-your-writes)
+ * - 예약 등 쓰기 직후 sticky-millis 동안은 그 사용자의 읽기 전용 트랜잭션도 기본 DB로 보내서
+ *   복제본 지연 때문에 자기가 쓴 내용이 안 보이는 일이 없도록 함.
+ * - 회원과 점장은 id 시퀀스가 달라 역할까지 합쳐서 구분.
+ */
+@Component
+public class ReadYourWritesTracker {
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${reservation.read-your-writes.sticky-millis}") long stickyMillis,
+                                 @Value("${reservation.read-your-writes.max-users}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMillis(stickyMillis))
+                .build();
+    }
+
+    public void markWrite(UserPrincipal principal) {
+        recentWriters.put(key(principal), Boolean.TRUE);
+    }
+
+    /**
+     * 현재 요청 사용자가 최근에 쓰기를 했는지
+     */
+    public boolean isCurrentUserSticky() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return false;
+        }
+        return recentWriters.getIfPresent(key(principal)) != null;
+    }
+
+    private static String key(UserPrincipal principal) {
+        return principal.getRole() + ":" + principal.getId();
+    }
+}
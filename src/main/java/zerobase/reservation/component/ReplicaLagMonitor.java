@@ -0,0 +1,75 @@
+package zerobase.reservation.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 복제본 지연 감시
+ * - 기본 DB의 replica_heartbeat 행에 현재 시각을 쓰고, 복제본에서 같은 행을 읽어 그 차이를 지연으로 봄.
+ * - 지연이 max-lag-millis를 넘거나 복제본을 읽지 못하면 usable=false가 되어 읽기도 기본 DB로 보냄.
+ * - 첫 확인 전에는 usable=false. 지연은 reservation.replica.lag 메트릭(ms)으로 노출.
+ * - DataSourceConfig에서 복제본이 설정된 경우에만 만듦.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource,
+                             long maxLagMillis, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("reservation.replica.lag", this, monitor -> monitor.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.datasource.replica.lag-check-millis}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?) " +
+                    "ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)", Timestamp.valueOf(now));
+
+            List<Timestamp> beats = replica.queryForList(
+                    "SELECT beat_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+            if (beats.isEmpty() || beats.get(0) == null) {
+                lagMillis = -1;
+                usable = false;
+            } else {
+                lagMillis = Math.max(Duration.between(beats.get(0).toLocalDateTime(), LocalDateTime.now()).toMillis(), 0);
+                usable = lagMillis <= maxLagMillis;
+            }
+        } catch (RuntimeException e) {
+            lagMillis = -1;
+            usable = false;
+            log.warn("replica lag check failed: {}", e.getMessage());
+        }
+        if (wasUsable != usable) {
+            log.warn("replica {} (lag {} ms)", usable ? "back in use" : "bypassed", lagMillis);
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
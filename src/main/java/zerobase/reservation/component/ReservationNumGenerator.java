@@ -0,0 +1,66 @@
+package zerobase.reservation.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약번호 발급기
+ * - 시각(41bit) + 노드 번호(10bit) + 순번(12bit)을 합친 64bit 값을 만들고
+ * 키오스크에서 입력하기 쉬운 13자리 Crockford Base32 문자열로 바꿈.
+ * - 락 없이 CAS로 순번을 올리고, 같은 밀리초에 순번이 다 차면 다음 밀리초 값을 당겨 씀.
+ * - 노드 번호가 겹치지 않으면 여러 서버에서도 번호가 겹치지 않고, 문자열 순서가 발급 순서와 같음.
+ */
+@Component
+public class ReservationNumGenerator {
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeId;
+    private final AtomicLong lastState = new AtomicLong();
+
+    public ReservationNumGenerator(@Value("${reservation.node-id}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("reservation.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 새 예약번호 발급
+     */
+    public String nextReservationNum() {
+        return encode(nextId());
+    }
+
+    long nextId() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH;
+            long prev = lastState.get();
+            long next = (prev >>> SEQUENCE_BITS) < now ? now << SEQUENCE_BITS : prev + 1;
+            if (lastState.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
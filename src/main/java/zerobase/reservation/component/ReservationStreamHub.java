@@ -0,0 +1,194 @@
+package zerobase.reservation.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zerobase.reservation.dto.ReservationStreamDto;
+import zerobase.reservation.event.ReservationChangedEvent;
+import zerobase.reservation.event.ReservationCheckedInEvent;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매장별 예약 변경 SSE 구독 관리
+ * - 연결은 서블릿 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 연결이 요청 스레드를 잡고 있지 않음.
+ * - 트랜잭션 커밋 이후에만 알림을 보내고, 실제 전송은 별도 스레드에서 해서 느린 클라이언트가 요청 처리를 막지 않게 함.
+ * - 전송 큐가 가득 차면 알림을 버림 (화면은 재연결 시 목록을 다시 조회).
+ */
+@Slf4j
+@Component
+public class ReservationStreamHub {
+    private final ReservationRepository reservationRepository;
+    private final long emitterTimeoutMillis;
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final Runnable heartbeatTask = this::sendHeartbeats;
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+
+    public ReservationStreamHub(ReservationRepository reservationRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${reservation.stream.timeout-millis}") long emitterTimeoutMillis,
+                                @Value("${reservation.stream.dispatch-threads}") int dispatchThreads,
+                                @Value("${reservation.stream.queue-size}") int queueSize) {
+        this.reservationRepository = reservationRepository;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reservation-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> onRejected(runnable));
+        meterRegistry.gauge("reservation.stream.subscribers", subscriberCount);
+    }
+
+    /**
+     * 매장 구독 등록
+     */
+    public SseEmitter subscribe(Long storeId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        subscribers.compute(storeId, (id, emitters) -> {
+            Set<SseEmitter> result = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            result.add(emitter);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+
+        Runnable remove = () -> unsubscribe(storeId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        //연결 직후 응답 헤더를 바로 내려보내기 위한 첫 이벤트
+        send(storeId, emitter, SseEmitter.event().name("connected").data(storeId));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!subscribers.containsKey(event.getStoreId())) {
+            return;
+        }
+        dispatcher.execute(() -> broadcast(ReservationStreamDto.builder()
+                .reservationId(event.getReservationId())
+                .storeId(event.getStoreId())
+                .reservedAt(event.getReservedAt())
+                .status(event.getStatus())
+                .build()));
+    }
+
+    /**
+     * 방문 확인은 예약번호만 알고 있으므로 구독자가 있을 때만 전송 스레드에서 매장을 찾아 보냄
+     */
+    @TransactionalEventListener
+    public void onReservationCheckedIn(ReservationCheckedInEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> reservationRepository.findSlotRefByReservationNum(event.getReservationNum())
+                .filter(ref -> subscribers.containsKey(ref.getStoreId()))
+                .ifPresent(ref -> broadcast(ReservationStreamDto.builder()
+                        .reservationId(ref.getId())
+                        .storeId(ref.getStoreId())
+                        .reservedAt(ref.getReservedAt())
+                        .status(ReservationStatus.VISITED)
+                        .build())));
+    }
+
+    /**
+     * 프록시 등에서 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+     * - 스케줄러 스레드는 전송 스레드에 넘기기만 함. 느린 연결에 쓰다 막혀도 다른 스케줄 작업(만료/보관/복제본 감시)은 계속 돎.
+     * - 이전 회차가 아직 끝나지 않았으면 이번 회차는 건너뛰어 큐에 쌓이지 않게 함.
+     */
+    @Scheduled(fixedRateString = "${reservation.stream.heartbeat-millis}")
+    public void heartbeat() {
+        if (subscribers.isEmpty() || !heartbeatPending.compareAndSet(false, true)) {
+            return;
+        }
+        dispatcher.execute(heartbeatTask);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    private void sendHeartbeats() {
+        try {
+            subscribers.forEach((storeId, emitters) ->
+                    emitters.forEach(emitter -> send(storeId, emitter, SseEmitter.event().comment("heartbeat"))));
+        } finally {
+            heartbeatPending.set(false);
+        }
+    }
+
+    private void onRejected(Runnable runnable) {
+        if (runnable == heartbeatTask) {
+            heartbeatPending.set(false);
+            return;
+        }
+        log.warn("reservation stream queue is full, event dropped");
+    }
+
+    private void broadcast(ReservationStreamDto message) {
+        Set<SseEmitter> emitters = subscribers.get(message.getStoreId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(message.getStoreId(), emitter, SseEmitter.event()
+                    .name(eventName(message.getStatus()))
+                    .id(String.valueOf(message.getReservationId()))
+                    .data(message, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(Long storeId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            //끊긴 연결은 바로 정리
+            unsubscribe(storeId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long storeId, SseEmitter emitter) {
+        //마지막 구독자가 빠지면 매장 항목도 제거 (구독 등록과 겹치지 않도록 compute 안에서 처리)
+        subscribers.computeIfPresent(storeId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private static String eventName(ReservationStatus status) {
+        return switch (status) {
+            case REQUESTED -> "created";
+            case CONFIRMED -> "confirmed";
+            case REJECTED -> "rejected";
+            case VISITED -> "visited";
+            case EXPIRED -> "expired";
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package zerobase.reservation.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.dto.ReviewDto;
+import zerobase.reservation.event.ReviewChangedEvent;
+import zerobase.reservation.event.StoreChangedEvent;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 매장 리뷰 피드 첫 페이지 캐시
+ * - 기본 크기 첫 페이지만 담고, max-stores를 넘으면 Caffeine(W-TinyLFU)이 자주 조회되는 매장 위주로 남김.
+ * - 리뷰 작성/수정/삭제 이벤트(커밋 이후)로 해당 매장 항목을 지우고, 다른 서버에서 바뀐 리뷰는 ttl이 지나면 다시 읽음.
+ * - 적중/제거 횟수는 cache.gets, cache.evictions{cache=reviewFeed} 메트릭으로 노출.
+ */
+@Component
+public class ReviewFeedCache {
+    private final Cache<Long, ReviewDto.FeedResponse> firstPages;
+
+    public ReviewFeedCache(MeterRegistry meterRegistry,
+                           @Value("${reservation.review-feed.cache-max-stores}") long maxStores,
+                           @Value("${reservation.review-feed.cache-ttl-seconds}") long ttlSeconds) {
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(maxStores)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.firstPages, "reviewFeed");
+    }
+
+    public ReviewDto.FeedResponse getFirstPage(Long storeId, Function<Long, ReviewDto.FeedResponse> loader) {
+        return firstPages.get(storeId, loader);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        firstPages.invalidate(event.getStoreId());
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.isDeleted()) {
+            firstPages.invalidate(event.getStoreId());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package zerobase.reservation.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reservation.repository.SchedulerLockRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * DB 임대 행으로 배치 작업을 한 서버에서만 돌게 함
+ * - 임대 시간이 지나면 다른 서버가 가져갈 수 있으므로, 오래 걸리는 작업은 중간에 tryAcquire로 연장.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockManager {
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = now();
+        schedulerLockRepository.createIfAbsent(name, now);
+        return schedulerLockRepository.acquire(name, owner, now, now.plus(leaseTime)) == 1;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        schedulerLockRepository.release(name, owner, now());
+    }
+
+    /**
+     * DB 컬럼 정밀도(마이크로초)에 맞춘 현재 시각
+     * - 나노초가 반올림되어 저장되면 방금 만든 임대 행의 lockedUntil이 now보다 커져 임대를 못 잡을 수 있음.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,121 @@
+package zerobase.reservation.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import zerobase.reservation.exception.ManagerException;
+import zerobase.reservation.exception.MemberException;
+import zerobase.reservation.exception.ReservationException;
+import zerobase.reservation.exception.ReviewException;
+import zerobase.reservation.exception.StoreException;
+import zerobase.reservation.type.ErrorCode;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메소드 실행 시간 / 결과 메트릭
+ * - service 패키지 빈의 public 메소드를 reservation.service 타이머로 기록 (count로 호출/거절 횟수도 같이 봄).
+ * - 태그: class, method, outcome(success / rejected / error), errorCode(업무 예외의 ErrorCode, 그 외에는 none)
+ * - @Transactional 보다 바깥에서 감싸 커밋 시간과 커밋 중 예외까지 포함.
+ * - 메소드별 타이머는 처음 호출 때 한 번만 만들어 두고, 이후 호출은 Map 조회와 nanoTime 두 번만 함.
+ * - 리포지토리 호출은 스프링 부트의 spring.data.repository.invocations 타이머로 기록됨.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+    public static final String METRIC_NAME = "reservation.service";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(zerobase.reservation.service..*) && execution(public * *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, MethodTimers::new);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.failure(errorCodeOf(e)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * 업무 예외에서 ErrorCode 꺼내기 (업무 예외가 아니면 null)
+     */
+    private static ErrorCode errorCodeOf(Throwable e) {
+        if (e instanceof MemberException memberException) {
+            return memberException.getErrorCode();
+        }
+        if (e instanceof ManagerException managerException) {
+            return managerException.getErrorCode();
+        }
+        if (e instanceof ReservationException reservationException) {
+            return reservationException.getErrorCode();
+        }
+        if (e instanceof ReviewException reviewException) {
+            return reviewException.getErrorCode();
+        }
+        if (e instanceof StoreException storeException) {
+            return storeException.getErrorCode();
+        }
+        return null;
+    }
+
+    /**
+     * 메소드 하나의 타이머 묶음
+     * - 실패 타이머는 ErrorCode별로 처음 발생할 때 만듦.
+     */
+    private class MethodTimers {
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Timer error;
+        private final Map<ErrorCode, Timer> rejected = new ConcurrentHashMap<>();
+
+        MethodTimers(Method method) {
+            this.className = method.getDeclaringClass().getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer("success", NONE);
+            this.error = timer("error", NONE);
+        }
+
+        Timer failure(ErrorCode errorCode) {
+            if (errorCode == null) {
+                return error;
+            }
+            return rejected.computeIfAbsent(errorCode, code -> timer("rejected", code.name()));
+        }
+
+        private Timer timer(String outcome, String errorCode) {
+            return Timer.builder(METRIC_NAME)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .tag("errorCode", errorCode)
+                    .register(meterRegistry);
+        }
+    }
+}
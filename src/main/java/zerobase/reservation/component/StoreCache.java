@@ -0,0 +1,105 @@
+package zerobase.reservation.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.dto.StoreSnapshot;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRepository;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 매장 조회 캐시 (id, 매장명)
+ * - 같은 매장을 동시에 여러 요청이 찾으면 한 요청만 DB를 읽고 나머지는 그 결과를 기다림.
+ * - 매장명 캐시는 id만 들고 있고 실제 정보는 id 캐시에서 꺼내므로, 이름이 바뀐 매장을 옛 이름으로 찾지 않음.
+ * - 매장 변경 이벤트(커밋 이후)로 지우고, 다른 서버에서 바뀐 매장은 ttl이 지나면 다시 읽음.
+ * - 읽기 전용 트랜잭션(복제본) 안에서 캐시를 채울 때는 새 트랜잭션으로 기본 DB에서 읽어,
+ *   지연된 복제본 값이 무효화 직후 다시 캐시되지 않도록 함.
+ * - 적중/제거 횟수는 cache.gets, cache.evictions{cache=storeById|storeByName} 메트릭으로 노출.
+ */
+@Component
+public class StoreCache {
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final Cache<Long, StoreSnapshot> byId;
+    private final Cache<String, Long> byName;
+
+    public StoreCache(StoreRepository storeRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${reservation.store-cache.max-size}") long maxSize,
+                      @Value("${reservation.store-cache.ttl-seconds}") long ttlSeconds) {
+        this.storeRepository = storeRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.byName = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.byId, "storeById");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.byName, "storeByName");
+    }
+
+    /**
+     * 없는 매장은 캐시하지 않음
+     */
+    public Optional<StoreSnapshot> findById(Long storeId) {
+        return Optional.ofNullable(byId.get(storeId, id -> fromPrimary(() -> storeRepository.findById(id)
+                .map(StoreSnapshot::of)
+                .orElse(null))));
+    }
+
+    public Optional<StoreSnapshot> findByStoreName(String storeName) {
+        Long storeId = byName.get(storeName, name -> fromPrimary(() -> storeRepository.findByStoreName(name)
+                .map(store -> {
+                    byId.put(store.getId(), StoreSnapshot.of(store));
+                    return store.getId();
+                })
+                .orElse(null)));
+        if (storeId == null) {
+            return Optional.empty();
+        }
+        Optional<StoreSnapshot> store = findById(storeId);
+        //그 사이 이름이 바뀌었으면 옛 이름 항목은 버리고 다시 찾음
+        if (store.isEmpty() || !Objects.equals(store.get().getStoreName(), storeName)) {
+            byName.invalidate(storeName);
+            return storeRepository.findByStoreName(storeName).map(StoreSnapshot::of);
+        }
+        return store;
+    }
+
+    private <T> T fromPrimary(Supplier<T> loader) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        return primaryTransaction.execute(status -> loader.get());
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        StoreSnapshot previous = byId.getIfPresent(event.getStoreId());
+        byId.invalidate(event.getStoreId());
+        byName.invalidate(event.getStoreName());
+        if (previous != null) {
+            byName.invalidate(previous.getStoreName());
+        }
+    }
+}
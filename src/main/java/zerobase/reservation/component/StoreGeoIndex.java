@@ -0,0 +1,283 @@
+package zerobase.reservation.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 위치 격자 색인
+ * - 위도/경도를 cell-degrees 크기의 격자로 나눠 칸마다 매장 id를 모아 둠.
+ * - 반경 검색은 반경을 덮는 칸만, 가까운 k개 검색은 가운데 칸부터 한 겹씩 넓혀가며 확인.
+ * - 기동 시 DB에서 전체를 다시 만들고, 이후에는 매장 변경 이벤트로 해당 매장만 고침.
+ *   다 만들어지기 전(ready=false)에는 DB 범위 조회를 쓰도록 서비스에서 분기.
+ * - 다른 서버에서 추가/이동/삭제된 매장은 이벤트로 받을 수 없으므로 refresh-millis마다 DB와 맞춤.
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final StoreRepository storeRepository;
+    private final int rebuildChunkSize;
+    private final double cellDegrees;
+    private final int lonCells;
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    //DB와 맞추는 동안 이벤트로 바뀐 매장 (읽어 둔 DB 값이 더 오래됐을 수 있으므로 건드리지 않음)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final Object reloadLock = new Object();
+
+    public StoreGeoIndex(StoreRepository storeRepository,
+                         @Value("${reservation.geo.rebuild-chunk-size}") int rebuildChunkSize,
+                         @Value("${reservation.geo.cell-degrees}") double cellDegrees) {
+        this.storeRepository = storeRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.cellDegrees = cellDegrees;
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = reload();
+        ready = true;
+        log.info("store geo index built with {} stores", loaded);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.geo.refresh-millis}",
+            initialDelayString = "${reservation.geo.refresh-millis}")
+    public void refresh() {
+        log.debug("store geo index refreshed with {} stores", reload());
+    }
+
+    /**
+     * 좌표가 있는 매장을 id 순서로 나눠 읽어 DB와 맞춤
+     * - 이름/좌표가 다른 매장은 고치고, DB에 없거나 좌표가 지워진 매장은 뺌.
+     * - 읽는 동안 이벤트로 바뀐 매장은 이벤트 쪽 값이 더 최신이므로 건드리지 않음.
+     */
+    int reload() {
+        synchronized (reloadLock) {
+            touched.clear();
+            Set<Long> seen = new HashSet<>();
+            long lastId = 0;
+            while (true) {
+                List<StoreRepository.StoreLocation> chunk =
+                        storeRepository.findLocationsAfter(lastId, Limit.of(rebuildChunkSize));
+                for (StoreRepository.StoreLocation store : chunk) {
+                    seen.add(store.getId());
+                    reconcile(store.getId(), new Point(store.getId(), store.getStoreName(),
+                            store.getLatitude(), store.getLongitude()));
+                }
+                if (chunk.size() < rebuildChunkSize) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            for (Long storeId : points.keySet()) {
+                if (!seen.contains(storeId)) {
+                    reconcile(storeId, null);
+                }
+            }
+            return seen.size();
+        }
+    }
+
+    /**
+     * DB에서 읽은 값으로 한 매장 고치기 (point가 null이면 삭제되었거나 좌표가 없는 매장)
+     * - 이벤트는 touched에 먼저 표시한 뒤 put/remove로 이 잠금을 기다리므로, 확인과 변경 사이에 끼어들어도 이벤트 값이 남음.
+     */
+    private synchronized void reconcile(Long storeId, Point point) {
+        if (touched.contains(storeId)) {
+            return;
+        }
+        if (point == null) {
+            remove(storeId);
+        } else if (!point.equals(points.get(storeId))) {
+            put(storeId, point.storeName(), point.latitude(), point.longitude());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        touched.add(event.getStoreId());
+        if (event.isDeleted() || event.getLatitude() == null || event.getLongitude() == null) {
+            remove(event.getStoreId());
+        } else {
+            put(event.getStoreId(), event.getStoreName(), event.getLatitude(), event.getLongitude());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void put(Long storeId, String storeName, double latitude, double longitude) {
+        remove(storeId);
+        Point point = new Point(storeId, storeName, latitude, longitude);
+        points.put(storeId, point);
+        cells.computeIfAbsent(cellOf(latitude, longitude), key -> ConcurrentHashMap.newKeySet()).add(storeId);
+    }
+
+    public synchronized void remove(Long storeId) {
+        Point point = points.remove(storeId);
+        if (point == null) {
+            return;
+        }
+        long cell = cellOf(point.latitude(), point.longitude());
+        Set<Long> ids = cells.get(cell);
+        if (ids != null) {
+            ids.remove(storeId);
+            if (ids.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * 반경 안의 매장을 가까운 순으로 최대 limit개
+     */
+    public List<StoreDto.NearbyStore> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        int minLat = latIndex(latitude - latDelta);
+        int maxLat = latIndex(latitude + latDelta);
+        int minLon = lonIndex(longitude - lonDelta);
+        int maxLon = Math.min(lonIndex(longitude + lonDelta), minLon + lonCells - 1);
+
+        //가장 먼 후보가 맨 앞에 오는 크기 limit의 힙
+        PriorityQueue<StoreDto.NearbyStore> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(StoreDto.NearbyStore::getDistanceKm).reversed());
+        for (int lat = minLat; lat <= maxLat; lat++) {
+            for (int lon = minLon; lon <= maxLon; lon++) {
+                collect(cellKey(lat, lon), latitude, longitude, radiusKm, limit, nearest);
+            }
+        }
+        return sorted(nearest);
+    }
+
+    /**
+     * 가까운 매장 k개 (maxRadiusKm 안에서)
+     * - 한 겹 넓힐 때마다 다음 겹까지의 최소 거리를 계산해, 이미 찾은 k번째보다 멀면 멈춤.
+     */
+    public List<StoreDto.NearbyStore> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        int centerLat = latIndex(latitude);
+        int centerLon = lonIndex(longitude);
+        PriorityQueue<StoreDto.NearbyStore> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(StoreDto.NearbyStore::getDistanceKm).reversed());
+
+        for (int ring = 0; ; ring++) {
+            //ring 겹 바깥 칸까지의 최소 거리 (경도 방향은 위도가 높을수록 좁아지므로 보수적으로 계산)
+            double ringLat = Math.min(Math.abs(latitude) + ring * cellDegrees, 89.9);
+            double ringDistanceKm = Math.max(ring - 1, 0) * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(ringLat));
+            if (ringDistanceKm > maxRadiusKm
+                    || (nearest.size() >= k && ringDistanceKm > nearest.peek().getDistanceKm())
+                    || ring > lonCells / 2) {
+                break;
+            }
+            for (int lat = centerLat - ring; lat <= centerLat + ring; lat++) {
+                for (int lon = centerLon - ring; lon <= centerLon + ring; lon++) {
+                    //이번 겹의 테두리 칸만
+                    if (Math.abs(lat - centerLat) == ring || Math.abs(lon - centerLon) == ring) {
+                        collect(cellKey(lat, lon), latitude, longitude, maxRadiusKm, k, nearest);
+                    }
+                }
+            }
+        }
+        return sorted(nearest);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (haversine, km)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void collect(Long cell, double latitude, double longitude, double radiusKm, int limit,
+                         PriorityQueue<StoreDto.NearbyStore> nearest) {
+        if (cell == null) {
+            return;
+        }
+        Set<Long> ids = cells.get(cell);
+        if (ids == null) {
+            return;
+        }
+        for (Long storeId : ids) {
+            Point point = points.get(storeId);
+            if (point == null) {
+                continue;
+            }
+            double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(point.toNearby(distance));
+            } else if (distance < nearest.peek().getDistanceKm()) {
+                nearest.poll();
+                nearest.add(point.toNearby(distance));
+            }
+        }
+    }
+
+    private static List<StoreDto.NearbyStore> sorted(PriorityQueue<StoreDto.NearbyStore> nearest) {
+        List<StoreDto.NearbyStore> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(StoreDto.NearbyStore::getDistanceKm));
+        return result;
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(latIndex(latitude), lonIndex(longitude));
+    }
+
+    /**
+     * 위도 범위를 벗어난 칸은 null, 경도는 180도 경계에서 이어붙임 (lonIndex는 범위를 벗어난 값도 받음)
+     */
+    private Long cellKey(int lat, int lon) {
+        if (lat < 0 || lat > latIndex(90)) {
+            return null;
+        }
+        return (long) lat * lonCells + Math.floorMod(lon, lonCells);
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellDegrees);
+    }
+
+    private int lonIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private record Point(Long storeId, String storeName, double latitude, double longitude) {
+        StoreDto.NearbyStore toNearby(double distanceKm) {
+            return new StoreDto.NearbyStore(storeId, storeName, latitude, longitude, distanceKm);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package zerobase.reservation.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 매장명 자동완성 색인
+ * - 매장명의 각 단어 시작 위치부터의 문자열(정규화)과 그 초성을 정렬된 맵에 넣어 접두어 범위 조회로 찾음.
+ * - 키 뒤에 구분자와 매장 id를 붙여 같은 이름의 매장도 따로 들어가게 함.
+ * - 기동 시 DB에서 전체를 다시 만들고, 이후에는 매장 변경 이벤트로 해당 매장만 고침.
+ * - 다른 서버에서 추가/이름 변경/삭제된 매장은 이벤트로 받을 수 없으므로 refresh-millis마다 DB와 맞춤.
+ */
+@Slf4j
+@Component
+public class StoreNameIndex {
+    private static final char SEPARATOR = '\u0000';
+    //초성 검색에서 글자 비교로 걸러지는 후보가 많을 때 더 보지 않을 최대 개수
+    private static final int MAX_SCAN = 1000;
+
+    private final StoreRepository storeRepository;
+    private final int rebuildChunkSize;
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Long> byName = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Long> byChosung = new ConcurrentSkipListMap<>();
+    //DB와 맞추는 동안 이벤트로 바뀐 매장 (읽어 둔 DB 값이 더 오래됐을 수 있으므로 건드리지 않음)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final Object reloadLock = new Object();
+
+    public StoreNameIndex(StoreRepository storeRepository,
+                          @Value("${reservation.store-index.rebuild-chunk-size}") int rebuildChunkSize) {
+        this.storeRepository = storeRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("store name index built with {} stores", reload());
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.store-index.refresh-millis}",
+            initialDelayString = "${reservation.store-index.refresh-millis}")
+    public void refresh() {
+        log.debug("store name index refreshed with {} stores", reload());
+    }
+
+    /**
+     * 전체 매장을 id 순서로 나눠 읽어 DB와 맞춤
+     * - 이름이 다른 매장은 고치고, DB에 없는 매장은 뺌.
+     * - 읽는 동안 이벤트로 바뀐 매장은 이벤트 쪽 값이 더 최신이므로 건드리지 않음.
+     */
+    int reload() {
+        synchronized (reloadLock) {
+            touched.clear();
+            Set<Long> seen = new HashSet<>();
+            long lastId = 0;
+            while (true) {
+                List<StoreRepository.StoreName> chunk = storeRepository.findNamesAfter(lastId, Limit.of(rebuildChunkSize));
+                for (StoreRepository.StoreName store : chunk) {
+                    seen.add(store.getId());
+                    reconcile(store.getId(), store.getStoreName());
+                }
+                if (chunk.size() < rebuildChunkSize) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            for (Long storeId : names.keySet()) {
+                if (!seen.contains(storeId)) {
+                    reconcile(storeId, null);
+                }
+            }
+            return seen.size();
+        }
+    }
+
+    /**
+     * DB에서 읽은 값으로 한 매장 고치기 (storeName이 null이면 삭제된 매장)
+     * - 이벤트는 touched에 먼저 표시한 뒤 put/remove로 이 잠금을 기다리므로, 확인과 변경 사이에 끼어들어도 이벤트 값이 남음.
+     */
+    private synchronized void reconcile(Long storeId, String storeName) {
+        if (touched.contains(storeId)) {
+            return;
+        }
+        if (storeName == null) {
+            remove(storeId);
+        } else if (!storeName.equals(names.get(storeId))) {
+            put(storeId, storeName);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        touched.add(event.getStoreId());
+        if (event.isDeleted()) {
+            remove(event.getStoreId());
+        } else {
+            put(event.getStoreId(), event.getStoreName());
+        }
+    }
+
+    public synchronized void put(Long storeId, String storeName) {
+        remove(storeId);
+        names.put(storeId, storeName);
+        for (String suffix : suffixes(storeName)) {
+            byName.put(key(suffix, storeId), storeId);
+            byChosung.put(key(HangulNormalizer.toChosung(suffix), storeId), storeId);
+        }
+    }
+
+    public synchronized void remove(Long storeId) {
+        String storeName = names.remove(storeId);
+        if (storeName == null) {
+            return;
+        }
+        for (String suffix : suffixes(storeName)) {
+            byName.remove(key(suffix, storeId));
+            byChosung.remove(key(HangulNormalizer.toChosung(suffix), storeId));
+        }
+    }
+
+    /**
+     * 접두어로 매장 찾기
+     * - 검색어에 초성만 입력된 글자가 있으면 초성 색인에서 찾고, 완성된 글자는 실제 매장명과 비교해 거름.
+     */
+    public List<StoreDto.Suggestion> search(String query, int limit) {
+        String normalized = HangulNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        boolean chosung = HangulNormalizer.hasConsonant(normalized);
+        String prefix = chosung ? HangulNormalizer.toChosung(normalized) : normalized;
+        NavigableMap<String, Long> range = (chosung ? byChosung : byName).tailMap(prefix, true);
+
+        Set<Long> found = new LinkedHashSet<>();
+        int scanned = 0;
+        for (Map.Entry<String, Long> entry : range.entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || found.size() >= limit || scanned++ >= MAX_SCAN) {
+                break;
+            }
+            Long storeId = entry.getValue();
+            if (!chosung || matchesAnySuffix(names.get(storeId), normalized)) {
+                found.add(storeId);
+            }
+        }
+
+        List<StoreDto.Suggestion> result = new ArrayList<>(found.size());
+        for (Long storeId : found) {
+            String storeName = names.get(storeId);
+            if (storeName != null) {
+                result.add(new StoreDto.Suggestion(storeId, storeName));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private static boolean matchesAnySuffix(String storeName, String query) {
+        if (storeName == null) {
+            return false;
+        }
+        for (String suffix : suffixes(storeName)) {
+            if (matches(suffix, query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성으로 입력된 글자는 초성끼리, 나머지 글자는 그대로 비교
+     */
+    private static boolean matches(String suffix, String query) {
+        if (suffix.length() < query.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char c = suffix.charAt(i);
+            if (q == c) {
+                continue;
+            }
+            if (!HangulNormalizer.isConsonant(q) || HangulNormalizer.toChosung(String.valueOf(c)).charAt(0) != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 매장명의 각 단어 시작 위치부터 끝까지를 정규화한 문자열 ("스타벅스 강남점" -> 스타벅스강남점, 강남점)
+     */
+    private static List<String> suffixes(String storeName) {
+        List<String> suffixes = new ArrayList<>();
+        boolean wordStart = true;
+        for (int i = 0; i < storeName.length(); i++) {
+            boolean whitespace = Character.isWhitespace(storeName.charAt(i));
+            if (wordStart && !whitespace) {
+                suffixes.add(HangulNormalizer.normalize(storeName.substring(i)));
+            }
+            wordStart = whitespace;
+        }
+        return suffixes;
+    }
+
+    private static String key(String text, Long storeId) {
+        return text + SEPARATOR + storeId;
+    }
+}
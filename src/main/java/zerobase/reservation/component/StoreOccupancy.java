@@ -0,0 +1,113 @@
+package zerobase.reservation.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.domain.ReservationSlot;
+import zerobase.reservation.event.ReservationChangedEvent;
+import zerobase.reservation.repository.ReservationSlotRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 매장별 하루 단위 시간대 예약 건수
+ * - (매장, 날짜)마다 시간대 수만큼의 카운터 배열을 메모리에 두고, 처음 조회할 때 reservation_slot에서 한 번에 읽어옴.
+ * - 이후에는 예약 생성/거절/만료 이벤트로 카운터만 올리고 내려서 달력 조회 시 DB를 읽지 않음.
+ * - 다른 서버에서 들어온 예약은 이벤트로 받을 수 없으므로 refresh 주기가 지나면 다시 읽어옴.
+ */
+@Component
+public class StoreOccupancy {
+    public static final int SLOTS_PER_DAY = 24 * 60 / ReservationSlot.SLOT_MINUTES;
+
+    private final ReservationSlotRepository slotRepository;
+    private final Cache<DayKey, AtomicIntegerArray> days;
+
+    public StoreOccupancy(ReservationSlotRepository slotRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${reservation.availability.max-days}") long maxDays,
+                          @Value("${reservation.availability.refresh-seconds}") long refreshSeconds) {
+        this.slotRepository = slotRepository;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(maxDays)
+                .expireAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.days, "storeOccupancy");
+    }
+
+    /**
+     * from ~ to 날짜의 시간대별 예약 건수
+     * - 메모리에 없는 날짜만 모아서 reservation_slot을 한 번 조회.
+     */
+    public Map<LocalDate, int[]> getOccupancy(Long storeId, LocalDate from, LocalDate to) {
+        List<DayKey> keys = from.datesUntil(to.plusDays(1))
+                .map(date -> new DayKey(storeId, date))
+                .toList();
+        Map<DayKey, AtomicIntegerArray> loaded = days.getAll(keys, this::load);
+
+        Map<LocalDate, int[]> result = new HashMap<>();
+        loaded.forEach((key, counts) -> {
+            int[] snapshot = new int[SLOTS_PER_DAY];
+            for (int i = 0; i < SLOTS_PER_DAY; i++) {
+                snapshot[i] = counts.get(i);
+            }
+            result.put(key.date(), snapshot);
+        });
+        return result;
+    }
+
+    @TransactionalEventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        int delta = switch (event.getStatus()) {
+            case REQUESTED -> 1;
+            case REJECTED, EXPIRED -> -1;
+            default -> 0;
+        };
+        if (delta == 0) {
+            return;
+        }
+        LocalDateTime reservedAt = event.getReservedAt();
+        AtomicIntegerArray counts = days.getIfPresent(new DayKey(event.getStoreId(), reservedAt.toLocalDate()));
+        if (counts != null) {
+            counts.addAndGet(slotIndex(reservedAt), delta);
+        }
+    }
+
+    private Map<DayKey, AtomicIntegerArray> load(Set<? extends DayKey> keys) {
+        Long storeId = keys.iterator().next().storeId();
+        LocalDate from = keys.stream().map(DayKey::date).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = keys.stream().map(DayKey::date).max(LocalDate::compareTo).orElseThrow();
+
+        Map<DayKey, AtomicIntegerArray> result = new HashMap<>();
+        for (DayKey key : keys) {
+            result.put(key, new AtomicIntegerArray(SLOTS_PER_DAY));
+        }
+        List<ReservationSlot> slots = slotRepository.findByStoreIdAndSlotAtBetween(
+                storeId, from.atStartOfDay(), to.plusDays(1).atStartOfDay().minusNanos(1));
+        for (ReservationSlot slot : slots) {
+            AtomicIntegerArray counts = result.get(new DayKey(storeId, slot.getSlotAt().toLocalDate()));
+            if (counts != null) {
+                counts.set(slotIndex(slot.getSlotAt()), slot.getReserved());
+            }
+        }
+        return result;
+    }
+
+    private static int slotIndex(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / ReservationSlot.SLOT_MINUTES;
+    }
+
+    private record DayKey(Long storeId, LocalDate date) {
+    }
+}
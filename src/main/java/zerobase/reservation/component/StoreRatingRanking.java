@@ -0,0 +1,183 @@
+package zerobase.reservation.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import zerobase.reservation.domain.StoreRating;
+import zerobase.reservation.event.ReviewChangedEvent;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRatingRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 평점 상위 매장 순위
+ * - 매장별 (리뷰 수, 별점 합)을 메모리에 두고, min-reviews 이상인 매장만 평균 평점 순으로 정렬된 집합에 넣어 둠.
+ * - 상위 k개는 정렬된 집합의 앞에서 k개만 꺼내므로 매장 수와 상관없이 일정.
+ * - 기동 시 store_rating에서 다시 만들고, 이후에는 리뷰 변경 이벤트의 증감분으로 해당 매장만 고침.
+ * - 다른 서버에서 써진 리뷰는 이벤트로 받을 수 없으므로 refresh-millis마다 store_rating과 다시 맞춤.
+ */
+@Slf4j
+@Component
+public class StoreRatingRanking {
+    private static final Comparator<Rating> BY_AVERAGE_DESC = (a, b) -> {
+        //평균끼리 나누지 않고 교차 곱으로 비교 (sum/count 비교와 같음)
+        int byAverage = Long.compare(b.sum() * a.count(), a.sum() * b.count());
+        if (byAverage != 0) {
+            return byAverage;
+        }
+        int byCount = Long.compare(b.count(), a.count());
+        return byCount != 0 ? byCount : Long.compare(a.storeId(), b.storeId());
+    };
+
+    private final StoreRatingRepository ratingRepository;
+    private final int rebuildChunkSize;
+    private final long minReviews;
+    private final Map<Long, Rating> ratings = new ConcurrentHashMap<>();
+    private final NavigableSet<Rating> ranked = new ConcurrentSkipListSet<>(BY_AVERAGE_DESC);
+    //DB와 맞추는 동안 이벤트로 바뀐 매장 (읽어 둔 DB 값에 그 증감분이 빠져 있을 수 있으므로 건드리지 않음)
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final Object reloadLock = new Object();
+
+    public StoreRatingRanking(StoreRatingRepository ratingRepository,
+                              @Value("${reservation.rating.rebuild-chunk-size}") int rebuildChunkSize,
+                              @Value("${reservation.rating.min-reviews}") long minReviews) {
+        this.ratingRepository = ratingRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.minReviews = minReviews;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("store rating ranking built with {} stores", reload());
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.rating.refresh-millis}",
+            initialDelayString = "${reservation.rating.refresh-millis}")
+    public void refresh() {
+        log.debug("store rating ranking refreshed with {} stores", reload());
+    }
+
+    /**
+     * store_rating을 store_id 순서로 나눠 읽어 DB와 맞춤
+     * - 값이 다른 매장은 읽은 시점의 DB 값으로 덮어쓰고, DB에 없는(리뷰가 없거나 삭제된) 매장은 뺌.
+     * - 읽는 동안 이벤트로 바뀐 매장은 건드리지 않고 다음 회차에 맞춤.
+     */
+    int reload() {
+        synchronized (reloadLock) {
+            touched.clear();
+            Set<Long> seen = new HashSet<>();
+            long lastId = 0;
+            while (true) {
+                List<StoreRating> chunk = ratingRepository.findAfter(lastId, Limit.of(rebuildChunkSize));
+                for (StoreRating rating : chunk) {
+                    seen.add(rating.getStoreId());
+                    reconcile(rating.getStoreId(), rating.getReviewCount(), rating.getRatingSum());
+                }
+                if (chunk.size() < rebuildChunkSize) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getStoreId();
+            }
+            for (Long storeId : ratings.keySet()) {
+                if (!seen.contains(storeId)) {
+                    reconcile(storeId, 0, 0);
+                }
+            }
+            return seen.size();
+        }
+    }
+
+    /**
+     * DB에서 읽은 값으로 한 매장 고치기 (count가 0이면 뺌)
+     * - 이벤트는 touched에 먼저 표시한 뒤 add/remove로 이 잠금을 기다리므로, 확인과 변경 사이에 끼어들어도 증감분이 남음.
+     */
+    private synchronized void reconcile(Long storeId, long count, long sum) {
+        if (touched.contains(storeId)) {
+            return;
+        }
+        Rating current = ratings.get(storeId);
+        if (current == null ? count > 0 : current.count() != count || current.sum() != sum) {
+            put(storeId, count, sum);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getCountDelta() == 0 && event.getSumDelta() == 0) {
+            return;
+        }
+        touched.add(event.getStoreId());
+        add(event.getStoreId(), event.getCountDelta(), event.getSumDelta());
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.isDeleted()) {
+            touched.add(event.getStoreId());
+            remove(event.getStoreId());
+        }
+    }
+
+    public synchronized void put(Long storeId, long count, long sum) {
+        remove(storeId);
+        if (count <= 0) {
+            return;
+        }
+        Rating rating = new Rating(storeId, count, sum);
+        ratings.put(storeId, rating);
+        if (count >= minReviews) {
+            ranked.add(rating);
+        }
+    }
+
+    public synchronized void add(Long storeId, long countDelta, long sumDelta) {
+        Rating current = ratings.get(storeId);
+        long count = countDelta + (current == null ? 0 : current.count());
+        long sum = sumDelta + (current == null ? 0 : current.sum());
+        put(storeId, count, sum);
+    }
+
+    public synchronized void remove(Long storeId) {
+        Rating rating = ratings.remove(storeId);
+        if (rating != null) {
+            ranked.remove(rating);
+        }
+    }
+
+    /**
+     * 평균 평점 상위 limit개 (평균이 같으면 리뷰 수가 많은 순)
+     */
+    public List<Rating> top(int limit) {
+        List<Rating> result = new ArrayList<>(limit);
+        Iterator<Rating> iterator = ranked.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public int size() {
+        return ratings.size();
+    }
+
+    public record Rating(Long storeId, long count, long sum) {
+        public double average() {
+            return (double) sum / count;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package zerobase.reservation.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import zerobase.reservation.component.ReadYourWritesTracker;
+import zerobase.reservation.component.ReplicaLagMonitor;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource
+ * - 복제본 지연이 크거나, 현재 사용자가 방금 쓰기를 했으면 읽기 전용이어도 기본 DB로.
+ * - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 고르도록 LazyConnectionDataSourceProxy로 감싸서 씀.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.isUsable()
+                && !readYourWritesTracker.isCurrentUserSticky()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
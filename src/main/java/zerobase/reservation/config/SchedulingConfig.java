@@ -0,0 +1,11 @@
+package zerobase.reservation.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "reservation.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
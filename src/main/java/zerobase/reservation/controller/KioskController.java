@@ -21,7 +21,6 @@ public class KioskController {
     public ResponseEntity<?> confirmReservation(
             @PathVariable String reservationNum
     ) {
-        kioskService.confirmReservation(reservationNum);
         return ResponseEntity.ok(kioskService.confirmReservation(reservationNum));
     }
 }
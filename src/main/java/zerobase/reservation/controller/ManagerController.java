@@ -2,21 +2,26 @@ package zerobase.reservation.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import zerobase.reservation.dto.ManagerDto;
 import zerobase.reservation.dto.ReservationConfirm;
+import zerobase.reservation.dto.ReservationConfirmBulk;
+import zerobase.reservation.dto.ReservationPageDto;
 import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.security.UserPrincipal;
 import zerobase.reservation.service.ManagerService;
 
 @RestController
@@ -48,9 +53,9 @@ public class ManagerController {
     @PostMapping("/store/add")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> addStore(@RequestBody @Valid StoreDto.AddStoreRequest store,
-                                      @RequestHeader("Authorization") String token) {
+                                      UserPrincipal principal) {
 
-        return ResponseEntity.ok(managerService.addStore(store, token));
+        return ResponseEntity.ok(managerService.addStore(store, principal));
     }
     /**
      * 매장 수정
@@ -58,9 +63,9 @@ public class ManagerController {
     @PutMapping("/store/{storeId}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> updateStore(@PathVariable Long storeId, @RequestBody @Valid StoreDto.UpdateStoreRequest store,
-                                      @RequestHeader("Authorization") String token) {
+                                      UserPrincipal principal) {
 
-        StoreDto.StoreResponse updatedStore = managerService.updateStore(storeId, store, token);
+        StoreDto.StoreResponse updatedStore = managerService.updateStore(storeId, store, principal);
         return ResponseEntity.ok(updatedStore);
     }
     /**
@@ -69,9 +74,9 @@ public class ManagerController {
     @DeleteMapping("/store/{storeId}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> deleteStore(@PathVariable Long storeId,
-                                      @RequestHeader("Authorization") String token) {
+                                      UserPrincipal principal) {
 
-        managerService.deleteStore(storeId, token);
+        managerService.deleteStore(storeId, principal);
         return ResponseEntity.ok().build();
     }
 
@@ -80,9 +85,9 @@ public class ManagerController {
      */
     @GetMapping("/store/search")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<?> searchStore(@RequestHeader("Authorization") String token
+    public ResponseEntity<?> searchStore(UserPrincipal principal
     ) {
-        return ResponseEntity.ok(managerService.searchStore(token));
+        return ResponseEntity.ok(managerService.searchStore(principal));
     }
 
     /**
@@ -92,9 +97,22 @@ public class ManagerController {
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> searchReserve(
             @PathVariable Long storeId,
-            @RequestHeader("Authorization") String token
+            @ModelAttribute ReservationPageDto.Request request,
+            UserPrincipal principal
     ) {
-        return ResponseEntity.ok(managerService.searchReservation(storeId, token));
+        return ResponseEntity.ok(managerService.searchReservation(storeId, request, principal));
+    }
+
+    /**
+     * 매장 예약 변경 실시간 구독 (SSE)
+     */
+    @GetMapping(value = "/reserve/stream/{storeId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    public SseEmitter streamReserve(
+            @PathVariable Long storeId,
+            UserPrincipal principal
+    ) {
+        return managerService.subscribeReservation(storeId, principal);
     }
 
     /**
@@ -103,10 +121,22 @@ public class ManagerController {
     @PatchMapping("/reservation/confirm")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<?> confirmReserve(
-            @RequestHeader("Authorization") String token,
+            UserPrincipal principal,
             @RequestBody ReservationConfirm reservationConfirm
     ) {
-        return ResponseEntity.ok(managerService.confirmReservation(reservationConfirm, token)
+        return ResponseEntity.ok(managerService.confirmReservation(reservationConfirm, principal)
                 + "번 예약을 " + reservationConfirm.isConfirmYn() + " 하였습니다.");
     }
+
+    /**
+     * 예약 일괄 승인/거절
+     */
+    @PatchMapping("/reservation/confirm/bulk")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> confirmReserves(
+            UserPrincipal principal,
+            @RequestBody ReservationConfirmBulk.Request request
+    ) {
+        return ResponseEntity.ok(managerService.confirmReservations(request, principal));
+    }
 }
@@ -9,12 +9,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import zerobase.reservation.dto.MemberDto;
 import zerobase.reservation.dto.ReservationDto;
 import zerobase.reservation.dto.ReviewDto;
+import zerobase.reservation.security.UserPrincipal;
 import zerobase.reservation.service.MemberService;
 
 @RequestMapping("/customer")
@@ -49,10 +49,10 @@ public class MemberController {
     @PostMapping("/store/reserve")
     @PreAuthorize("hasRole('MEMBER')")
     public ResponseEntity<?> addReserve(
-            @RequestHeader("Authorization") String token,
+            UserPrincipal principal,
             @RequestBody ReservationDto request) {
 
-        return ResponseEntity.ok(memberService.addReservation(token, request));
+        return ResponseEntity.ok(memberService.addReservation(principal, request));
 
     }
 
@@ -62,10 +62,10 @@ public class MemberController {
     @PostMapping("/store/review")
     @PreAuthorize("hasRole('MEMBER')")
     public ResponseEntity<?> addReview(
-            @RequestHeader("Authorization") String token,
-            @RequestBody ReviewDto.Request request
+            UserPrincipal principal,
+            @RequestBody @Valid ReviewDto.Request request
     ) {
-        return ResponseEntity.ok(memberService.addReview(request, token));
+        return ResponseEntity.ok(memberService.addReview(request, principal));
     }
     /**
      * 리뷰 수정
@@ -74,10 +74,10 @@ public class MemberController {
     @PreAuthorize("hasRole('MEMBER')")
     public ResponseEntity<ReviewDto.Response> updateReview(
             @PathVariable Long reviewId,
-            @RequestBody ReviewDto.Request request,
-            @RequestHeader("Authorization") String token
+            @RequestBody @Valid ReviewDto.Request request,
+            UserPrincipal principal
     ) {
-        ReviewDto.Response updatedReview = memberService.updateReview(reviewId, request, token);
+        ReviewDto.Response updatedReview = memberService.updateReview(reviewId, request, principal);
         return ResponseEntity.ok(updatedReview);
     }
     /**
@@ -87,9 +87,9 @@ public class MemberController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> deleteReview(
             @PathVariable Long reviewId,
-            @RequestHeader("Authorization") String token
+            UserPrincipal principal
     ) {
-        memberService.deleteReview(reviewId, token);
+        memberService.deleteReview(reviewId, principal);
         return ResponseEntity.ok().build();
     }
 }
@@ -1,13 +1,17 @@
 package zerobase.reservation.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import zerobase.reservation.service.StoreService;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/store")
 @RequiredArgsConstructor
@@ -23,4 +27,72 @@ public class StoreController {
 
         return ResponseEntity.ok(storeService.searchStore(storeName));
     }
+
+    /**
+     * 매장명 자동완성
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestStore(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(storeService.suggest(q, limit));
+    }
+
+    /**
+     * 평점 상위 매장
+     */
+    @GetMapping("/top-rated")
+    public ResponseEntity<?> getTopRated(
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(storeService.getTopRated(limit));
+    }
+
+    /**
+     * 매장 리뷰 피드 (최신순)
+     */
+    @GetMapping("/{storeId}/reviews")
+    public ResponseEntity<?> getReviews(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(storeService.getReviews(storeId, cursor, limit));
+    }
+
+    /**
+     * 매장 평점 요약
+     */
+    @GetMapping("/{storeId}/rating")
+    public ResponseEntity<?> getRatingSummary(
+            @PathVariable Long storeId) {
+
+        return ResponseEntity.ok(storeService.getRatingSummary(storeId));
+    }
+
+    /**
+     * 주변 매장 검색
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> searchNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(storeService.searchNearby(lat, lon, radiusKm, limit));
+    }
+
+    /**
+     * 예약 가능 달력
+     */
+    @GetMapping("/{storeId}/availability")
+    public ResponseEntity<?> getAvailability(
+            @PathVariable Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(storeService.getAvailability(storeId, from, to));
+    }
 }
@@ -8,11 +8,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,10 +31,14 @@ import java.util.List;
 @Builder
 @Getter
 @Entity
-@Table(name = "manager")
+@Table(name = "manager", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_manager_mail", columnNames = "mail")
+})
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "manager")
 public class Manager extends BaseEntity implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq")
+    @SequenceGenerator(name = "manager_seq", sequenceName = "manager_seq", allocationSize = 50)
     @Column(name = "manager_id")
     private Long id;
 
@@ -42,7 +50,7 @@ public class Manager extends BaseEntity implements UserDetails {
 
     private String role;
 
-    @OneToMany(mappedBy = "manager",cascade = CascadeType.PERSIST, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "manager",cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     private List<Store> stores = new ArrayList<>();
 
     public static ManagerDto.RegisterResponse toResponse(Manager manager) {
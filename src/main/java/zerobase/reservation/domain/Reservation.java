@@ -1,18 +1,26 @@
 package zerobase.reservation.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import zerobase.reservation.type.ReservationStatus;
 
 import java.time.LocalDateTime;
 
@@ -22,27 +30,34 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_reservation_num", columnNames = "reservation_num")
+}, indexes = {
+        @Index(name = "idx_reservation_member_store_status", columnList = "member_id, store_id, status"),
+        @Index(name = "idx_reservation_status_reserved_at", columnList = "status, reserved_at"),
+        @Index(name = "idx_reservation_store_reserved_at", columnList = "store_id, reserved_at")
+})
 public class Reservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
+    @Column(name = "reservation_num", length = 13)
     private String reservationNum;
 
     private LocalDateTime reservedAt;
 
-    private boolean visited;
-
-    private boolean confirm;
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Store store;
 }
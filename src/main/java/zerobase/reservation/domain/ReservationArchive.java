@@ -0,0 +1,64 @@
+package zerobase.reservation.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리가 끝난 지난 예약 보관 테이블
+ * - reservation 테이블에서 id 그대로 옮겨오며, 회원/매장은 FK 없이 id만 보관.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "reservation_archive", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_archive_reservation_num", columnNames = "reservation_num")
+}, indexes = {
+        @Index(name = "idx_reservation_archive_store_reserved_at", columnList = "store_id, reserved_at")
+})
+public class ReservationArchive {
+    @Id
+    private Long id;
+
+    @Column(name = "reservation_num", length = 13)
+    private String reservationNum;
+
+    private LocalDateTime reservedAt;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "store_id")
+    private Long storeId;
+
+    private LocalDateTime archivedAt;
+
+    /**
+     * 예약 엔티티 형태로 변환 (저장하지 않는 읽기 전용 용도)
+     */
+    public Reservation toReservation(Member member, Store store) {
+        return Reservation.builder()
+                .id(id)
+                .reservationNum(reservationNum)
+                .reservedAt(reservedAt)
+                .status(status)
+                .member(member)
+                .store(store)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package zerobase.reservation.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 예약 시간대 재고
+ * - 매장 + 시간대마다 한 행을 두고 예약된 건수(reserved)를 조건부 UPDATE로 올리고 내림.
+ * - 기본 키는 마이그레이션에서 (store_id, slot_at) 순서로 만들어 매장별 기간 조회에도 씀.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@IdClass(ReservationSlot.SlotId.class)
+@Table(name = "reservation_slot")
+public class ReservationSlot {
+    public static final int SLOT_MINUTES = 30;
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Id
+    @Column(name = "slot_at")
+    private LocalDateTime slotAt;
+
+    private int reserved;
+
+    /**
+     * 예약 시각이 속한 시간대의 시작 시각
+     */
+    public static LocalDateTime slotOf(LocalDateTime reservedAt) {
+        return reservedAt.withSecond(0).withNano(0)
+                .withMinute(reservedAt.getMinute() / SLOT_MINUTES * SLOT_MINUTES);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    public static class SlotId implements Serializable {
+        private Long storeId;
+        private LocalDateTime slotAt;
+    }
+}
@@ -0,0 +1,27 @@
+package zerobase.reservation.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버에서 같은 배치 작업이 동시에 돌지 않도록 하는 임대(lease) 행
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+    @Id
+    private String name;
+
+    private LocalDateTime lockedUntil;
+
+    private String lockedBy;
+}
@@ -1,19 +1,25 @@
 package zerobase.reservation.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import net.minidev.json.annotate.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import zerobase.reservation.dto.StoreDto;
 
 import java.util.ArrayList;
@@ -25,18 +31,36 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "store")
+@Table(name = "store", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_store_store_name", columnNames = "store_name")
+}, indexes = {
+        @Index(name = "idx_store_manager_id", columnList = "manager_id"),
+        @Index(name = "idx_store_latitude_longitude", columnList = "latitude, longitude")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
 public class Store extends BaseEntity{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_seq")
+    @SequenceGenerator(name = "store_seq", sequenceName = "store_seq", allocationSize = 50)
     private Long id;
 
     private String storeName;
     private String location;
     private String description;
 
+    /**
+     * 매장 좌표 (WGS84), 입력하지 않은 매장은 위치 검색에서 제외
+     */
+    private Double latitude;
+    private Double longitude;
+
+    /**
+     * 시간대별 최대 예약 건수
+     */
+    private int slotCapacity;
+
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id")
     private Manager manager;
 
@@ -49,6 +73,8 @@ public class Store extends BaseEntity{
                 .storeName(store.getStoreName())
                 .location(store.getLocation())
                 .description(store.getDescription())
+                .latitude(store.getLatitude())
+                .longitude(store.getLongitude())
                 .build();
     }
 }
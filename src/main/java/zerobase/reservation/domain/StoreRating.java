@@ -0,0 +1,41 @@
+package zerobase.reservation.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장별 리뷰 평점 집계
+ * - 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증감 UPSERT로 갱신하므로 리뷰 테이블을 다시 세지 않음.
+ * - rating1 ~ rating5는 별점별 리뷰 수.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "store_rating")
+public class StoreRating {
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "review_count")
+    private long reviewCount;
+
+    @Column(name = "rating_sum")
+    private long ratingSum;
+
+    private long rating1;
+    private long rating2;
+    private long rating3;
+    private long rating4;
+    private long rating5;
+
+    public double getAverage() {
+        return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -0,0 +1,41 @@
+package zerobase.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) keyset 페이지 커서
+ * - 클라이언트에는 base64 문자열로만 주고받음.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((at + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 형식이 맞지 않으면 IllegalArgumentException
+     */
+    public static PageCursor decode(String cursor) {
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+        try {
+            return new PageCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package zerobase.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import zerobase.reservation.type.ErrorCode;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.util.List;
+
+/**
+ * 한 매장의 예약 여러 건 일괄 승인/거절
+ */
+public class ReservationConfirmBulk {
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+        private Long storeId;
+        private List<Item> items;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long reservationId;
+        private boolean confirmYn;
+    }
+
+    /**
+     * 건별 처리 결과
+     * - 실패한 건은 status 대신 errorCode에 사유를 담음.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private Long reservationId;
+        private boolean success;
+        private ReservationStatus status;
+        private ErrorCode errorCode;
+
+        public static Result success(Long reservationId, ReservationStatus status) {
+            return new Result(reservationId, true, status, null);
+        }
+
+        public static Result fail(Long reservationId, ErrorCode errorCode) {
+            return new Result(reservationId, false, null, errorCode);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package zerobase.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 점장용 매장 예약 목록 (커서 페이지)
+ */
+public class ReservationPageDto {
+    /**
+     * - from/to: 예약 날짜 범위 (포함), status: 예약 상태 (여러 개 가능), 비어 있으면 전체.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate from;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate to;
+
+        private Set<ReservationStatus> status;
+        private String cursor;
+        private Integer size;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long reservationId;
+        private String reservationNum;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd@HH:mm", timezone = "Asia/Seoul")
+        private LocalDateTime reservedAt;
+
+        private ReservationStatus status;
+        private Long memberId;
+        private String memberName;
+    }
+
+    /**
+     * - nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회, 마지막 페이지면 null.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<Item> items;
+        private String nextCursor;
+    }
+}
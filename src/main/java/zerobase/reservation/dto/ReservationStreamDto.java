@@ -0,0 +1,27 @@
+package zerobase.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점장 화면으로 보내는 예약 변경 알림
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationStreamDto {
+    private Long reservationId;
+    private Long storeId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd@HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime reservedAt;
+
+    private ReservationStatus status;
+}
@@ -1,11 +1,14 @@
 package zerobase.reservation.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ReviewDto {
     @AllArgsConstructor
@@ -15,6 +18,8 @@ public class ReviewDto {
     public static class Request{
         private String reservationNum;
         private String text;
+        @Min(1) @Max(5)
+        private int rating;
     }
 
     @AllArgsConstructor
@@ -25,7 +30,34 @@ public class ReviewDto {
         private String memberName;
         private String storeName;
         private String text;
+        private int rating;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class FeedItem {
+        private Long reviewId;
+        private String memberName;
+        private String text;
+        private int rating;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * 매장 리뷰 피드 (최신순 커서 페이지)
+     * - nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회, 마지막 페이지면 null.
+     */
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class FeedResponse {
+        private List<FeedItem> items;
+        private String nextCursor;
+    }
 }
@@ -1,6 +1,9 @@
 package zerobase.reservation.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +11,7 @@ import lombok.NoArgsConstructor;
 import zerobase.reservation.domain.Store;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class StoreDto {
     @Getter
@@ -20,12 +24,23 @@ public class StoreDto {
         private String location;
         private String description;
 
+        @Positive
+        private Integer slotCapacity;
+
+        @DecimalMin("-90.0") @DecimalMax("90.0")
+        private Double latitude;
+
+        @DecimalMin("-180.0") @DecimalMax("180.0")
+        private Double longitude;
+
         private Long managerId;
         public Store toEntity() {
             return Store.builder()
                     .storeName(this.getStoreName())
                     .location(this.getLocation())
                     .description(this.getDescription())
+                    .latitude(this.getLatitude())
+                    .longitude(this.getLongitude())
                     .build();
         }
     }
@@ -36,6 +51,15 @@ public class StoreDto {
         private String storeName;
         private String location;
         private String description;
+
+        @Positive
+        private Integer slotCapacity;
+
+        @DecimalMin("-90.0") @DecimalMax("90.0")
+        private Double latitude;
+
+        @DecimalMin("-180.0") @DecimalMax("180.0")
+        private Double longitude;
     }
 
     @Getter
@@ -58,5 +82,67 @@ public class StoreDto {
         private String storeName;
         private String location;
         private String description;
+        private Double latitude;
+        private Double longitude;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+        private Long storeId;
+        private String storeName;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ManagerStoreResponse {
+        private Long storeId;
+        private String storeName;
+        private String location;
+        private String description;
+        private int slotCapacity;
+        private long reviewCount;
+        private long upcomingReservationCount;
+        private long todayVisitCount;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RatedStore {
+        private Long storeId;
+        private String storeName;
+        private double averageRating;
+        private long reviewCount;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RatingSummary {
+        private Long storeId;
+        private long reviewCount;
+        private double averageRating;
+        /**
+         * 별점(1 ~ 5)별 리뷰 수
+         */
+        private Map<Integer, Long> histogram;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NearbyStore {
+        private Long storeId;
+        private String storeName;
+        private Double latitude;
+        private Double longitude;
+        private double distanceKm;
     }
 }
@@ -0,0 +1,37 @@
+package zerobase.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import zerobase.reservation.domain.Store;
+
+/**
+ * 캐시에 두는 매장 정보
+ * - 엔티티 대신 바뀌지 않는 값만 담아 여러 요청(스레드)이 함께 읽어도 안전하게 함.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreSnapshot {
+    private final Long id;
+    private final String storeName;
+    private final String location;
+    private final String description;
+    private final int slotCapacity;
+    private final Long managerId;
+    private final Double latitude;
+    private final Double longitude;
+
+    public static StoreSnapshot of(Store store) {
+        return new StoreSnapshot(store.getId(), store.getStoreName(), store.getLocation(), store.getDescription(),
+                store.getSlotCapacity(), store.getManager().getId(), store.getLatitude(), store.getLongitude());
+    }
+
+    public StoreDto.SearchStoreResponse toResponse() {
+        return StoreDto.SearchStoreResponse.builder()
+                .storeName(storeName)
+                .location(location)
+                .description(description)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package zerobase.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약이 생성되거나 상태가 바뀌었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후(AFTER_COMMIT)에 받아서 처리.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+    private final Long reservationId;
+    private final Long storeId;
+    private final LocalDateTime reservedAt;
+    private final ReservationStatus status;
+}
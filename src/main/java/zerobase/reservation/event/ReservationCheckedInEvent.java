@@ -0,0 +1,14 @@
+package zerobase.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키오스크에서 방문 확인이 처리되었을 때 발행하는 이벤트
+ * - 방문 확인은 예약번호 UPDATE 한 번으로 끝나므로 매장 정보 없이 예약번호만 담음.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationCheckedInEvent {
+    private final String reservationNum;
+}
@@ -0,0 +1,16 @@
+package zerobase.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰가 작성/수정/삭제되었을 때 발행하는 이벤트
+ * - 집계 테이블에 더한 증감분(리뷰 수, 별점 합)을 그대로 담음. 별점이 그대로인 수정은 0.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+    private final Long storeId;
+    private final long countDelta;
+    private final long sumDelta;
+}
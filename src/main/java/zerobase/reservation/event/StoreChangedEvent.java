@@ -0,0 +1,28 @@
+package zerobase.reservation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import zerobase.reservation.domain.Store;
+
+/**
+ * 매장이 추가/수정/삭제되었을 때 발행하는 이벤트
+ * - 리스너는 트랜잭션 커밋 이후(AFTER_COMMIT)에 받아서 처리.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private final Long storeId;
+    private final String storeName;
+    private final Double latitude;
+    private final Double longitude;
+    private final boolean deleted;
+
+    public static StoreChangedEvent saved(Store store) {
+        return new StoreChangedEvent(store.getId(), store.getStoreName(),
+                store.getLatitude(), store.getLongitude(), false);
+    }
+
+    public static StoreChangedEvent deleted(Store store) {
+        return new StoreChangedEvent(store.getId(), store.getStoreName(), null, null, true);
+    }
+}
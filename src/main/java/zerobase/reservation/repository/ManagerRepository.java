@@ -1,6 +1,9 @@
 package zerobase.reservation.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import zerobase.reservation.domain.Manager;
 
@@ -8,8 +11,12 @@ import java.util.Optional;
 
 @Repository
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
+    @UsesIndex(table = "manager", columns = "mail")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Manager> findByMail(String mail);
+    @UsesIndex(table = "manager", columns = "mail")
     boolean existsByMail(String mail);
 
+    @UsesIndex(table = "manager", columns = "manager_id")
     boolean existsById(Long id);
 }
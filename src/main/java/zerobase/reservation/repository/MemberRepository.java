@@ -1,6 +1,9 @@
 package zerobase.reservation.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import zerobase.reservation.domain.Member;
 
@@ -8,6 +11,9 @@ import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    @UsesIndex(table = "member", columns = "mail")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByMail(String mail);
+    @UsesIndex(table = "member", columns = "mail")
     boolean existsByMail(String mail);
 }
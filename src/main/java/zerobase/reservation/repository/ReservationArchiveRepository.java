@@ -0,0 +1,54 @@
+package zerobase.reservation.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.reservation.domain.ReservationArchive;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+    @UsesIndex(table = "reservation_archive", columns = "reservation_num")
+    Optional<ReservationArchive> findByReservationNum(String reservationNum);
+
+    /**
+     * reservation 테이블의 행을 그대로 복사 (이미 옮겨진 행은 무시)
+     */
+    @UsesIndex(table = "reservation", columns = "id")
+    @UsesIndex(table = "reservation_archive", columns = "id")
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_archive " +
+            "(id, reservation_num, reserved_at, status, member_id, store_id, archived_at) " +
+            "SELECT id, reservation_num, reserved_at, status, member_id, store_id, :archivedAt " +
+            "FROM reservation WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromReservation(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 보관된 매장 예약 목록 keyset 조회
+     * - ReservationRepository.findStorePage와 같은 조건/순서.
+     */
+    @UsesIndex(table = "reservation_archive", columns = {"store_id", "reserved_at"})
+    @UsesIndex(table = "member", columns = "id")
+    @Query("select a.id as id, a.reservationNum as reservationNum, a.reservedAt as reservedAt, " +
+            "a.status as status, m.id as memberId, m.name as memberName " +
+            "from ReservationArchive a join Member m on m.id = a.memberId " +
+            "where a.storeId = :storeId and a.status in :statuses and a.reservedAt < :to " +
+            "and (a.reservedAt > :afterAt or (a.reservedAt = :afterAt and a.id > :afterId)) " +
+            "order by a.reservedAt, a.id")
+    List<ReservationRepository.StoreReservationRow> findStorePage(
+            @Param("storeId") Long storeId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") Long afterId,
+            @Param("to") LocalDateTime to,
+            Limit limit);
+}
@@ -1,21 +1,179 @@
 package zerobase.reservation.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zerobase.reservation.domain.Reservation;
-import zerobase.reservation.domain.Store;
+import zerobase.reservation.type.ReservationStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    int countByReservedAt(LocalDateTime reservedAt);
+    /**
+     * 키오스크 방문 확인
+     * - 승인된 예약이고 예약시간 10분 후(deadline 기준)가 지나지 않았을 때만 방문 처리.
+     * - 갱신된 행 수가 0이면 findCheckInStateByReservationNum으로 이유를 확인.
+     */
+    @UsesIndex(table = "reservation", columns = "reservation_num")
+    @Modifying
+    @Query("update Reservation r set r.status = zerobase.reservation.type.ReservationStatus.VISITED " +
+            "where r.reservationNum = :reservationNum " +
+            "and r.status = zerobase.reservation.type.ReservationStatus.CONFIRMED " +
+            "and r.reservedAt >= :deadline")
+    int checkIn(@Param("reservationNum") String reservationNum, @Param("deadline") LocalDateTime deadline);
 
-    Optional<Reservation> findByReservationNum(String reserveNum);
+    @UsesIndex(table = "reservation", columns = "reservation_num")
+    Optional<CheckInState> findCheckInStateByReservationNum(String reservationNum);
 
-    Optional<List<Reservation>> findByStoreId(Long storeId);
+    @UsesIndex(table = "reservation", columns = "reservation_num")
+    @EntityGraph(attributePaths = {"store", "member"})
+    Optional<Reservation> findWithStoreAndMemberByReservationNum(String reserveNum);
 
-    Optional<List<Reservation>> findByStore(Store store);
+    /**
+     * 매장 예약 목록 keyset 조회
+     * - (reservedAt, id) 순서로 after 지점 다음부터 가져옴. idx_reservation_store_reserved_at 범위 스캔.
+     */
+    @UsesIndex(table = "reservation", columns = {"store_id", "reserved_at"})
+    @UsesIndex(table = "member", columns = "id")
+    @Query("select r.id as id, r.reservationNum as reservationNum, r.reservedAt as reservedAt, " +
+            "r.status as status, m.id as memberId, m.name as memberName " +
+            "from Reservation r join r.member m " +
+            "where r.store.id = :storeId and r.status in :statuses and r.reservedAt < :to " +
+            "and (r.reservedAt > :afterAt or (r.reservedAt = :afterAt and r.id > :afterId)) " +
+            "order by r.reservedAt, r.id")
+    List<StoreReservationRow> findStorePage(@Param("storeId") Long storeId,
+                                            @Param("statuses") Collection<ReservationStatus> statuses,
+                                            @Param("afterAt") LocalDateTime afterAt,
+                                            @Param("afterId") Long afterId,
+                                            @Param("to") LocalDateTime to,
+                                            Limit limit);
+
+    @UsesIndex(table = "reservation", columns = {"member_id", "store_id", "status"})
+    @Query("select case when count(r) > 0 then true else false end from Reservation r " +
+            "where r.member.id = :memberId and r.store.id = :storeId and r.status in :statuses")
+    boolean existsByMemberIdAndStoreIdAndStatusIn(@Param("memberId") Long memberId,
+                                                  @Param("storeId") Long storeId,
+                                                  @Param("statuses") Collection<ReservationStatus> statuses);
+
+    /**
+     * 노쇼 만료 대상 조회 (id 기준 keyset)
+     */
+    @UsesIndex(table = "reservation", columns = {"status", "reserved_at"})
+    @Query("select r.id as id, r.store.id as storeId, r.reservedAt as reservedAt from Reservation r " +
+            "where r.status in :statuses and r.reservedAt < :deadline and r.id > :lastId order by r.id")
+    List<SlotRef> findOverdue(@Param("statuses") Collection<ReservationStatus> statuses,
+                              @Param("deadline") LocalDateTime deadline,
+                              @Param("lastId") Long lastId,
+                              Limit limit);
+
+    /**
+     * 만료 대상 chunk 잠금 조회
+     * - 아직 진행 중인 예약만 행 잠금을 잡고 가져옴.
+     * - 다른 서버가 같은 chunk를 동시에 처리하면 잠금을 기다렸다가 이미 만료된 행은 빼고 받으므로,
+     *   한 예약의 만료/정원 반환은 한 번만 일어남.
+     */
+    @UsesIndex(table = "reservation", columns = "id")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.id in :ids and r.status in :statuses")
+    List<Reservation> findForExpire(@Param("ids") Collection<Long> ids,
+                                    @Param("statuses") Collection<ReservationStatus> statuses);
+
+    /**
+     * 잠근 예약만 만료 처리
+     */
+    @UsesIndex(table = "reservation", columns = "id")
+    @Modifying
+    @Query("update Reservation r set r.status = zerobase.reservation.type.ReservationStatus.EXPIRED " +
+            "where r.id in :ids and r.status in :statuses")
+    int expire(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<ReservationStatus> statuses);
+
+    /**
+     * 일괄 승인/거절 대상 조회
+     * - 해당 매장의 예약만 가져오고, 처리가 끝날 때까지 행 잠금을 잡아 다른 승인/만료 처리와 겹치지 않게 함.
+     */
+    @UsesIndex(table = "reservation", columns = "id")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.store.id = :storeId and r.id in :ids")
+    List<Reservation> findForConfirm(@Param("storeId") Long storeId, @Param("ids") Collection<Long> ids);
+
+    @UsesIndex(table = "reservation", columns = "id")
+    @Modifying
+    @Query("update Reservation r set r.status = :to where r.id in :ids and r.status = :from")
+    int changeStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to);
+
+    @UsesIndex(table = "reservation", columns = "reservation_num")
+    @Query("select r.id as id, r.store.id as storeId, r.reservedAt as reservedAt from Reservation r " +
+            "where r.reservationNum = :reservationNum")
+    Optional<SlotRef> findSlotRefByReservationNum(@Param("reservationNum") String reservationNum);
+
+    /**
+     * 보관 대상 조회 (id 기준 keyset)
+     */
+    @UsesIndex(table = "reservation", columns = {"status", "reserved_at"})
+    @Query("select r.id from Reservation r " +
+            "where r.status in :statuses and r.reservedAt < :before and r.id > :lastId order by r.id")
+    List<Long> findArchivable(@Param("statuses") Collection<ReservationStatus> statuses,
+                              @Param("before") LocalDateTime before,
+                              @Param("lastId") Long lastId,
+                              Limit limit);
+
+    @UsesIndex(table = "reservation", columns = "id")
+    @Modifying
+    @Query("delete from Reservation r where r.id in :ids and r.status in :statuses")
+    int deleteArchived(@Param("ids") Collection<Long> ids,
+                       @Param("statuses") Collection<ReservationStatus> statuses);
+
+    @UsesIndex(table = "reservation", columns = {"status", "reserved_at"})
+    @Query("select min(r.reservedAt) from Reservation r where r.status in :statuses and r.reservedAt < :deadline")
+    LocalDateTime findOldestReservedAt(@Param("statuses") Collection<ReservationStatus> statuses,
+                                      @Param("deadline") LocalDateTime deadline);
+
+    /**
+     * 예약이 차지하는 매장/시간대 정보 projection
+     */
+    interface SlotRef {
+        Long getId();
+
+        Long getStoreId();
+
+        LocalDateTime getReservedAt();
+    }
+
+    /**
+     * 점장용 예약 목록 projection
+     */
+    interface StoreReservationRow {
+        Long getId();
+
+        String getReservationNum();
+
+        LocalDateTime getReservedAt();
+
+        ReservationStatus getStatus();
+
+        Long getMemberId();
+
+        String getMemberName();
+    }
+
+    /**
+     * 방문 확인 실패 사유를 확인하기 위한 조회용 projection
+     */
+    interface CheckInState {
+        ReservationStatus getStatus();
+
+        LocalDateTime getReservedAt();
+    }
 }
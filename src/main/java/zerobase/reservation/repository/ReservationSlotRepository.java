@@ -0,0 +1,50 @@
+package zerobase.reservation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.reservation.domain.ReservationSlot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, ReservationSlot.SlotId> {
+    /**
+     * 시간대 행이 없으면 만들어 둠 (이미 있으면 무시)
+     */
+    @UsesIndex(table = "reservation_slot", columns = {"store_id", "slot_at"})
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_slot (store_id, slot_at, reserved) VALUES (:storeId, :slotAt, 0)",
+            nativeQuery = true)
+    int createIfAbsent(@Param("storeId") Long storeId, @Param("slotAt") LocalDateTime slotAt);
+
+    /**
+     * 정원이 남아 있을 때만 한 자리 차감
+     * - 갱신된 행 수가 0이면 정원이 다 찬 것.
+     */
+    @UsesIndex(table = "reservation_slot", columns = {"store_id", "slot_at"})
+    @Modifying
+    @Query("update ReservationSlot s set s.reserved = s.reserved + 1 " +
+            "where s.storeId = :storeId and s.slotAt = :slotAt and s.reserved < :capacity")
+    int acquire(@Param("storeId") Long storeId, @Param("slotAt") LocalDateTime slotAt,
+                @Param("capacity") int capacity);
+
+    /**
+     * 취소/거절/만료된 예약 자리 반환
+     */
+    @UsesIndex(table = "reservation_slot", columns = {"store_id", "slot_at"})
+    @Modifying
+    @Query("update ReservationSlot s set s.reserved = s.reserved - :count " +
+            "where s.storeId = :storeId and s.slotAt = :slotAt and s.reserved >= :count")
+    int release(@Param("storeId") Long storeId, @Param("slotAt") LocalDateTime slotAt,
+                @Param("count") int count);
+
+    /**
+     * 매장의 기간 내 시간대 행 조회 (예약 가능 달력 적재용)
+     */
+    @UsesIndex(table = "reservation_slot", columns = {"store_id", "slot_at"})
+    List<ReservationSlot> findByStoreIdAndSlotAtBetween(Long storeId, LocalDateTime from, LocalDateTime to);
+}
@@ -1,10 +1,51 @@
 package zerobase.reservation.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zerobase.reservation.domain.Review;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+    @UsesIndex(table = "review", columns = "id")
+    @EntityGraph(attributePaths = {"store", "member"})
+    Optional<Review> findWithStoreAndMemberById(Long id);
+
+    /**
+     * 매장 리뷰 피드 한 페이지
+     * - (createdAt, id) 내림차순으로 before 지점 다음부터 가져옴. idx_review_store_created_at 범위 스캔.
+     */
+    @UsesIndex(table = "review", columns = {"store_id", "created_at"})
+    @UsesIndex(table = "member", columns = "id")
+    @Query("select r.id as id, m.name as memberName, r.text as text, r.rating as rating, " +
+            "r.createdAt as createdAt, r.updatedAt as updatedAt " +
+            "from Review r join r.member m " +
+            "where r.store.id = :storeId " +
+            "and (r.createdAt < :beforeAt or (r.createdAt = :beforeAt and r.id < :beforeId)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewFeedRow> findStoreFeed(@Param("storeId") Long storeId,
+                                      @Param("beforeAt") LocalDateTime beforeAt,
+                                      @Param("beforeId") Long beforeId,
+                                      Limit limit);
+
+    interface ReviewFeedRow {
+        Long getId();
+
+        String getMemberName();
+
+        String getText();
+
+        int getRating();
+
+        LocalDateTime getCreatedAt();
 
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,34 @@
+package zerobase.reservation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.reservation.domain.SchedulerLock;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    @UsesIndex(table = "scheduler_lock", columns = "name")
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lock (name, locked_until, locked_by) VALUES (:name, :now, '')",
+            nativeQuery = true)
+    int createIfAbsent(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    /**
+     * 임대가 끝났거나 내가 가진 임대일 때만 until까지 연장
+     */
+    @UsesIndex(table = "scheduler_lock", columns = "name")
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedBy = :owner " +
+            "where l.name = :name and (l.lockedUntil <= :now or l.lockedBy = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @UsesIndex(table = "scheduler_lock", columns = "name")
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,40 @@
+package zerobase.reservation.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.reservation.domain.StoreRating;
+
+import java.util.List;
+
+@Repository
+public interface StoreRatingRepository extends JpaRepository<StoreRating, Long> {
+    /**
+     * 매장 평점 집계에 증감분을 더함 (행이 없으면 증감분으로 새로 만듦)
+     * - 한 문장으로 처리해 동시에 리뷰가 써져도 값이 유실되지 않음.
+     */
+    @UsesIndex(table = "store_rating", columns = "store_id")
+    @Modifying
+    @Query(value = "INSERT INTO store_rating " +
+            "(store_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5) " +
+            "VALUES (:storeId, :count, :sum, :r1, :r2, :r3, :r4, :r5) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "rating1 = rating1 + VALUES(rating1), rating2 = rating2 + VALUES(rating2), " +
+            "rating3 = rating3 + VALUES(rating3), rating4 = rating4 + VALUES(rating4), " +
+            "rating5 = rating5 + VALUES(rating5)",
+            nativeQuery = true)
+    int accumulate(@Param("storeId") Long storeId, @Param("count") long count, @Param("sum") long sum,
+                   @Param("r1") long r1, @Param("r2") long r2, @Param("r3") long r3,
+                   @Param("r4") long r4, @Param("r5") long r5);
+
+    /**
+     * 평점 순위 색인 적재용 (store_id 순서로 나눠 읽음)
+     */
+    @UsesIndex(table = "store_rating", columns = "store_id")
+    @Query("select r from StoreRating r where r.storeId > :lastId and r.reviewCount > 0 order by r.storeId")
+    List<StoreRating> findAfter(@Param("lastId") Long lastId, Limit limit);
+}
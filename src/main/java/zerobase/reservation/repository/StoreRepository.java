@@ -1,18 +1,108 @@
 package zerobase.reservation.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import zerobase.reservation.domain.Manager;
 import zerobase.reservation.domain.Store;
+import zerobase.reservation.type.ReservationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
+    @UsesIndex(table = "store", columns = "store_name")
     int countByStoreName(String storeName);
 
+    @UsesIndex(table = "store", columns = "store_name")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Store> findByStoreName(String storeName);
 
-    List<Store> findByManager(Manager manager);
+    /**
+     * 점장 매장 목록과 매장별 리뷰 수, 다가오는 예약 수, 오늘 방문 수
+     * - 매장마다 상관 서브쿼리로 세므로 매장 수와 상관없이 쿼리 한 번.
+     */
+    @UsesIndex(table = "store", columns = "manager_id")
+    @UsesIndex(table = "review", columns = "store_id")
+    @UsesIndex(table = "reservation", columns = {"store_id", "reserved_at"})
+    @Query("select s.id as id, s.storeName as storeName, s.location as location, " +
+            "s.description as description, s.slotCapacity as slotCapacity, " +
+            "(select count(rv) from Review rv where rv.store.id = s.id) as reviewCount, " +
+            "(select count(r) from Reservation r where r.store.id = s.id " +
+            "   and r.status in :activeStatuses and r.reservedAt >= :now) as upcomingCount, " +
+            "(select count(v) from Reservation v where v.store.id = s.id " +
+            "   and v.status = zerobase.reservation.type.ReservationStatus.VISITED " +
+            "   and v.reservedAt >= :todayStart and v.reservedAt < :tomorrowStart) as todayVisitCount " +
+            "from Store s where s.manager.id = :managerId order by s.id")
+    List<ManagerStoreRow> findManagerStores(@Param("managerId") Long managerId,
+                                            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("todayStart") LocalDateTime todayStart,
+                                            @Param("tomorrowStart") LocalDateTime tomorrowStart);
+
+    /**
+     * 매장명 색인 생성용 (id 기준 keyset)
+     */
+    @UsesIndex(table = "store", columns = "id")
+    @Query("select s.id as id, s.storeName as storeName from Store s where s.id > :lastId order by s.id")
+    List<StoreName> findNamesAfter(@Param("lastId") Long lastId, Limit limit);
+
+    interface ManagerStoreRow {
+        Long getId();
+
+        String getStoreName();
+
+        String getLocation();
+
+        String getDescription();
+
+        Integer getSlotCapacity();
+
+        Long getReviewCount();
+
+        Long getUpcomingCount();
+
+        Long getTodayVisitCount();
+    }
+
+    interface StoreName {
+        Long getId();
+
+        String getStoreName();
+    }
+
+    /**
+     * 위치 색인 생성용 (id 기준 keyset, 좌표가 있는 매장만)
+     */
+    @UsesIndex(table = "store", columns = "id")
+    @Query("select s.id as id, s.storeName as storeName, s.latitude as latitude, s.longitude as longitude " +
+            "from Store s where s.id > :lastId and s.latitude is not null and s.longitude is not null order by s.id")
+    List<StoreLocation> findLocationsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    /**
+     * 사각 범위 안의 매장 (위치 색인이 준비되기 전에 쓰는 DB 조회)
+     * - idx_store_latitude_longitude로 위도 범위를 좁힌 뒤 경도로 거름.
+     */
+    @UsesIndex(table = "store", columns = "latitude")
+    @Query("select s.id as id, s.storeName as storeName, s.latitude as latitude, s.longitude as longitude " +
+            "from Store s where s.latitude between :minLat and :maxLat and s.longitude between :minLon and :maxLon")
+    List<StoreLocation> findInBoundingBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                          @Param("minLon") double minLon, @Param("maxLon") double maxLon);
+
+    interface StoreLocation {
+        Long getId();
+
+        String getStoreName();
+
+        Double getLatitude();
+
+        Double getLongitude();
+    }
 }
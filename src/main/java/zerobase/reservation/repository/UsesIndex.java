@@ -0,0 +1,28 @@
+package zerobase.reservation.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리포지토리 쿼리 메서드가 기대는 인덱스
+ * - columns는 인덱스(기본 키 포함)의 앞쪽 컬럼과 순서대로 일치해야 함.
+ * - 여러 테이블을 읽는 쿼리는 테이블마다 하나씩 붙임.
+ * - 기동 시 IndexCoverageVerifier가 모든 쿼리 메서드에 붙어 있는지, 실제 DB에 그 인덱스가 있는지 확인.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(UsesIndex.List.class)
+public @interface UsesIndex {
+    String table();
+
+    String[] columns();
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        UsesIndex[] value();
+    }
+}
@@ -0,0 +1,116 @@
+package zerobase.reservation.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.component.SchedulerLockManager;
+import zerobase.reservation.repository.ReservationArchiveRepository;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 예약 보관 처리
+ * - 방문/만료/거절로 끝난 지 after-days가 지난 예약을 reservation_archive로 옮겨 reservation 테이블을 작게 유지.
+ * - chunk 하나를 한 트랜잭션에서 복사 후 삭제하므로 어느 시점에도 예약이 두 테이블 모두에서 빠지지 않음.
+ * - scheduler_lock 임대를 가진 서버 한 곳에서만 실행.
+ */
+@Slf4j
+@Component
+public class ReservationArchiveScheduler {
+    private static final String LOCK_NAME = "reservation-archive";
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final SchedulerLockManager schedulerLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseTime;
+    private final long afterDays;
+
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    public ReservationArchiveScheduler(ReservationRepository reservationRepository,
+                                       ReservationArchiveRepository archiveRepository,
+                                       SchedulerLockManager schedulerLockManager,
+                                       TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${reservation.archive.chunk-size}") int chunkSize,
+                                       @Value("${reservation.archive.lease-seconds}") long leaseSeconds,
+                                       @Value("${reservation.archive.after-days}") long afterDays) {
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.schedulerLockManager = schedulerLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+        this.afterDays = afterDays;
+
+        this.archivedCounter = Counter.builder("reservation.archiver.archived")
+                .description("보관 테이블로 옮긴 예약 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("reservation.archiver.run")
+                .description("지난 예약 보관 처리 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.archive.fixed-delay}")
+    public void archiveFinished() {
+        if (!schedulerLockManager.tryAcquire(LOCK_NAME, leaseTime)) {
+            return;
+        }
+        try {
+            runTimer.record(this::archive);
+        } finally {
+            schedulerLockManager.release(LOCK_NAME);
+        }
+    }
+
+    private void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minusDays(afterDays);
+
+        long lastId = 0;
+        int processed = 0;
+        while (true) {
+            List<Long> ids = reservationRepository.findArchivable(
+                    ReservationStatus.FINISHED, before, lastId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer archived = transactionTemplate.execute(status -> archiveChunk(ids, now));
+            processed += archived == null ? 0 : archived;
+            lastId = ids.get(ids.size() - 1);
+
+            //다음 chunk 전에 임대 연장, 다른 서버가 가져갔으면 중단
+            if (ids.size() < chunkSize || !schedulerLockManager.tryAcquire(LOCK_NAME, leaseTime)) {
+                break;
+            }
+        }
+
+        if (processed > 0) {
+            log.info("{} finished reservations archived", processed);
+        }
+    }
+
+    /**
+     * chunk 하나 보관 처리
+     * - 끝난 상태의 예약은 더 바뀌지 않으므로 복사한 뒤 같은 id를 그대로 삭제.
+     */
+    private int archiveChunk(List<Long> ids, LocalDateTime archivedAt) {
+        archiveRepository.copyFromReservation(ids, archivedAt);
+        int deleted = reservationRepository.deleteArchived(ids, ReservationStatus.FINISHED);
+        archivedCounter.increment(deleted);
+        return deleted;
+    }
+}
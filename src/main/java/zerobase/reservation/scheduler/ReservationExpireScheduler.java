@@ -0,0 +1,145 @@
+package zerobase.reservation.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.component.SchedulerLockManager;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.ReservationSlot;
+import zerobase.reservation.event.ReservationChangedEvent;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.ReservationSlotRepository;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 노쇼 예약 만료 처리
+ * - 예약시간 10분이 지나도록 방문하지 않은 진행 중 예약을 EXPIRED로 바꾸고 시간대 정원을 돌려줌.
+ * - id 기준 keyset으로 chunk-size만큼씩 나눠 각각 짧은 트랜잭션에서 처리.
+ * - scheduler_lock 임대를 가진 서버 한 곳에서만 실행. 임대가 중간에 넘어가 두 서버가 같은 chunk를 처리해도
+ *   행 잠금으로 한 예약은 한 번만 만료됨.
+ */
+@Slf4j
+@Component
+public class ReservationExpireScheduler {
+    private static final String LOCK_NAME = "reservation-expire";
+    private static final long GRACE_MINUTES = 10;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository slotRepository;
+    private final SchedulerLockManager schedulerLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final Duration leaseTime;
+
+    private final Counter expiredCounter;
+    private final Timer runTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ReservationExpireScheduler(ReservationRepository reservationRepository,
+                                      ReservationSlotRepository slotRepository,
+                                      SchedulerLockManager schedulerLockManager,
+                                      TransactionTemplate transactionTemplate,
+                                      ApplicationEventPublisher eventPublisher,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${reservation.sweeper.chunk-size}") int chunkSize,
+                                      @Value("${reservation.sweeper.lease-seconds}") long leaseSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.slotRepository = slotRepository;
+        this.schedulerLockManager = schedulerLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+
+        this.expiredCounter = Counter.builder("reservation.sweeper.expired")
+                .description("노쇼로 만료 처리된 예약 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("reservation.sweeper.run")
+                .description("노쇼 만료 처리 1회 실행 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("reservation.sweeper.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.sweeper.fixed-delay}")
+    public void expireNoShows() {
+        if (!schedulerLockManager.tryAcquire(LOCK_NAME, leaseTime)) {
+            return;
+        }
+        try {
+            runTimer.record(this::sweep);
+        } finally {
+            schedulerLockManager.release(LOCK_NAME);
+        }
+    }
+
+    private void sweep() {
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(GRACE_MINUTES);
+
+        //가장 오래 방치된 예약이 만료 시점에서 얼마나 지났는지 기록
+        LocalDateTime oldest = reservationRepository.findOldestReservedAt(ReservationStatus.ACTIVE, deadline);
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, deadline).toSeconds());
+
+        long lastId = 0;
+        int processed = 0;
+        while (true) {
+            List<ReservationRepository.SlotRef> targets = reservationRepository.findOverdue(
+                    ReservationStatus.ACTIVE, deadline, lastId, Limit.of(chunkSize));
+            if (targets.isEmpty()) {
+                break;
+            }
+            List<Long> ids = targets.stream().map(ReservationRepository.SlotRef::getId).toList();
+            Integer expired = transactionTemplate.execute(status -> expireChunk(ids));
+            processed += expired == null ? 0 : expired;
+            lastId = ids.get(ids.size() - 1);
+
+            //다음 chunk 전에 임대 연장, 다른 서버가 가져갔으면 중단
+            if (targets.size() < chunkSize || !schedulerLockManager.tryAcquire(LOCK_NAME, leaseTime)) {
+                break;
+            }
+        }
+
+        if (processed > 0) {
+            log.info("{} no-show reservations expired", processed);
+        }
+    }
+
+    /**
+     * chunk 하나 만료 처리 (트랜잭션 안에서 호출)
+     * - 아직 진행 중인 예약만 잠그고, 잠근 예약만 만료/정원 반환/이벤트 발행.
+     * - 그 사이 거절/방문 처리됐거나 다른 서버가 먼저 만료한 예약은 잠금 조회에서 빠짐.
+     */
+    int expireChunk(List<Long> ids) {
+        List<Reservation> targets = reservationRepository.findForExpire(ids, ReservationStatus.ACTIVE);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        reservationRepository.expire(targets.stream().map(Reservation::getId).toList(), ReservationStatus.ACTIVE);
+
+        Map<ReservationSlot.SlotId, Long> releases = targets.stream()
+                .collect(Collectors.groupingBy(
+                        r -> new ReservationSlot.SlotId(r.getStore().getId(), ReservationSlot.slotOf(r.getReservedAt())),
+                        Collectors.counting()));
+        releases.forEach((slot, count) ->
+                slotRepository.release(slot.getStoreId(), slot.getSlotAt(), count.intValue()));
+        targets.forEach(r -> eventPublisher.publishEvent(new ReservationChangedEvent(
+                r.getId(), r.getStore().getId(), r.getReservedAt(), ReservationStatus.EXPIRED)));
+
+        expiredCounter.increment(targets.size());
+        return targets.size();
+    }
+}
@@ -1,32 +1,23 @@
 package zerobase.reservation.security;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
-import zerobase.reservation.service.ManagerService;
-import zerobase.reservation.service.MemberService;
 
 @Component
 @RequiredArgsConstructor
 public class GetAuthentication {
-    private UserDetailsService userDetailsService;
-    private final ManagerService manageService;
-    private final MemberService memberService;
     private final TokenProvider tokenProvider;
 
-    public Authentication getAuthentication(String jwt) {
-        String role = tokenProvider.getRole(jwt);
+    /**
+     * 토큰 Claims로 인증 객체 생성
+     * - 회원/점장 테이블을 조회하지 않고 Claims의 id, mail, role로 UserPrincipal을 만듦.
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserPrincipal principal = tokenProvider.getPrincipal(claims);
 
-        if (role.equals("ROLE_MANAGER")) {
-            userDetailsService = manageService;
-        } else {
-            userDetailsService = memberService;
-        }
-        UserDetails userDetails = this.userDetailsService.loadUserByUsername(tokenProvider.getMail(jwt));
-
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 }
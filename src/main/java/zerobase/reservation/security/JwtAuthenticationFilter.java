@@ -1,21 +1,21 @@
 package zerobase.reservation.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import zerobase.reservation.component.AccessLogFilter;
 
 import java.io.IOException;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,9 +29,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = this.resolveTokenFromRequest(request);
         if (StringUtils.hasText(token) && this.tokenProvider.validateToken(token)) {
-            Authentication auth = this.getAuthentication.getAuthentication(token);
+            Claims claims = this.tokenProvider.getClaims(token);
+            Authentication auth = this.getAuthentication.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(auth);
-            log.info(String.format("[%s] -> %s",this.tokenProvider.getMail(token),request.getRequestURI()));
+            //요청 로그는 AccessLogFilter가 표본으로 남김
+            request.setAttribute(AccessLogFilter.USER_ATTRIBUTE, auth.getPrincipal());
         }
         filterChain.doFilter(request, response);
     }
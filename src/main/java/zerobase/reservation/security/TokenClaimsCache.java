@@ -0,0 +1,61 @@
+package zerobase.reservation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * - 토큰 만료 시각이 지나면 자동으로 제거되고, 최대 크기를 넘으면 오래 쓰이지 않은 토큰부터 제거.
+ * - 적중/실패 횟수는 cache.gets{cache=jwtClaims} 메트릭으로 노출.
+ */
+@Component
+public class TokenClaimsCache {
+    private final Cache<String, Claims> cache;
+
+    public TokenClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "jwtClaims");
+    }
+
+    public Claims get(String token) {
+        return this.cache.getIfPresent(token);
+    }
+
+    public void put(String token, Claims claims) {
+        this.cache.put(token, claims);
+    }
+
+    /**
+     * 캐시 항목의 수명을 토큰의 exp 클레임까지로 맞춤
+     */
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
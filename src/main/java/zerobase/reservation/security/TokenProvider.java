@@ -2,6 +2,7 @@ package zerobase.reservation.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,21 +15,26 @@ import java.util.Date;
 
 @Component
 public class TokenProvider {
+    private static final String KEY_ID = "id";
     private static final String KEY_ROLE = "role";
     private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
     private final SecretKey secretKey;
-    public TokenProvider (@Value("${jwt.secret}") String secretKey) {
+    private final JwtParser jwtParser;
+    private final TokenClaimsCache claimsCache;
+    public TokenProvider (@Value("${jwt.secret}") String secretKey, TokenClaimsCache claimsCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
-
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
+        this.claimsCache = claimsCache;
     }
 
-    public String generateToken(String mail, String role) {
+    public String generateToken(Long id, String mail, String role) {
 
         Date now = new Date();
         Date expireDate = new Date(now.getTime() +TOKEN_EXPIRE_TIME);
 
         return Jwts.builder()
+                .claim(KEY_ID, id)
                 .claim(KEY_ROLE, role)
                 .claim(Claims.SUBJECT, mail)
                 .issuedAt(now)
@@ -37,7 +43,10 @@ public class TokenProvider {
                 .compact();
     }
     public String getRole(String token) {
-        return (String) this.parseClaims(token).get(KEY_ROLE);
+        return getRole(this.parseClaims(token));
+    }
+    public String getRole(Claims claims) {
+        return (String) claims.get(KEY_ROLE);
     }
     public String getMail(String token) {
         return this.parseClaims(token).getSubject();
@@ -47,11 +56,30 @@ public class TokenProvider {
             return false;
         }
         Claims claims = this.parseClaims(token);
-        return !claims.getExpiration().before(new Date());
+        return claims.get(KEY_ID) != null && !claims.getExpiration().before(new Date());
+    }
+
+    public UserPrincipal getPrincipal(Claims claims) {
+        return new UserPrincipal(claims.get(KEY_ID, Long.class), claims.getSubject(), getRole(claims));
     }
+
+    /**
+     * 검증된 Claims 반환
+     * - 한 번 검증한 토큰은 만료될 때까지 캐시에서 꺼내 씀.
+     */
+    public Claims getClaims(String token) {
+        return this.parseClaims(token);
+    }
+
     private Claims parseClaims(String token) {
+        Claims cached = this.claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parser().setSigningKey(this.secretKey).build().parseSignedClaims(token).getBody();
+            Claims claims = this.jwtParser.parseSignedClaims(token).getPayload();
+            this.claimsCache.put(token, claims);
+            return claims;
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
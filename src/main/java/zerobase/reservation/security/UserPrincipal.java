@@ -0,0 +1,34 @@
+package zerobase.reservation.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import zerobase.reservation.type.Authority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토큰 Claims만으로 만든 인증 사용자 정보
+ * - 요청마다 DB를 조회하지 않도록 id, mail, role만 담고 변경되지 않음.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPrincipal {
+    private final Long id;
+    private final String mail;
+    private final String role;
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(this.role));
+    }
+
+    public boolean isMember() {
+        return Authority.ROLE_MEMBER.name().equals(this.role);
+    }
+
+    public boolean isManager() {
+        return Authority.ROLE_MANAGER.name().equals(this.role);
+    }
+}
@@ -1,43 +1,101 @@
 package zerobase.reservation.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import zerobase.reservation.domain.Reservation;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reservation.event.ReservationCheckedInEvent;
 import zerobase.reservation.exception.ReservationException;
 import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.type.ErrorCode;
+import zerobase.reservation.type.ReservationStatus;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static zerobase.reservation.type.ErrorCode.*;
 
 @Service
-@RequiredArgsConstructor
 public class KioskService {
+    private static final long GRACE_MINUTES = 10;
+
     private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //결과별 타이머는 미리 만들어 두고, 거절 타이머는 ErrorCode별로 처음 발생할 때 만듦
+    private final Timer visitedTimer;
+    private final Timer alreadyVisitedTimer;
+    private final Timer errorTimer;
+    private final Map<ErrorCode, Timer> rejectedTimers = new ConcurrentHashMap<>();
+
+    public KioskService(ReservationRepository reservationRepository,
+                        MeterRegistry meterRegistry,
+                        ApplicationEventPublisher eventPublisher) {
+        this.reservationRepository = reservationRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.visitedTimer = timer("VISITED");
+        this.alreadyVisitedTimer = timer("ALREADY_VISITED");
+        this.errorTimer = timer("ERROR");
+    }
 
     /**
      * 예약 방문 확인
+     * - 조건부 UPDATE 한 번으로 방문 처리하고, 이미 방문 처리된 예약은 성공으로 응답(재시도 가능).
      */
+    @Transactional
     public String confirmReservation(String reservationNum) {
-        Reservation reservation = reservationRepository.findByReservationNum(reservationNum)
-                .orElseThrow(() -> new ReservationException(RESERVE_NOT_FOUND));
-
-        validate(reservation);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer outcome = visitedTimer;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (reservationRepository.checkIn(reservationNum, now.minusMinutes(GRACE_MINUTES)) == 0) {
+                validate(reservationNum, now);
+                outcome = alreadyVisitedTimer;
+            } else {
+                eventPublisher.publishEvent(new ReservationCheckedInEvent(reservationNum));
+            }
+            return reservationNum + " 방문확인 되었습니다.";
+        } catch (ReservationException e) {
+            outcome = rejectedTimers.computeIfAbsent(e.getErrorCode(), code -> timer(code.name()));
+            throw e;
+        } catch (RuntimeException e) {
+            //DB 오류 등 예상하지 못한 예외는 방문 처리로 집계되지 않도록 따로 기록
+            outcome = errorTimer;
+            throw e;
+        } finally {
+            sample.stop(outcome);
+        }
+    }
 
-        reservation.setVisited(true);
-        Reservation save = reservationRepository.save(reservation);
-        return save.getReservationNum() + " 방문확인 되었습니다.";
+    private Timer timer(String outcome) {
+        return Timer.builder("kiosk.checkin")
+                .description("키오스크 방문 확인 처리 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
-     * 예약 방문 확인 시 유효한지 확인
+     * 방문 확인이 되지 않은 이유 확인
+     * - 이미 방문 처리된 예약이면 그대로 통과.
      */
-    private void validate(Reservation reservation) {
-        if (LocalDateTime.now().isAfter(reservation.getReservedAt().plusMinutes(10))) {
+    private void validate(String reservationNum, LocalDateTime now) {
+        ReservationRepository.CheckInState state = reservationRepository.findCheckInStateByReservationNum(reservationNum)
+                .orElseThrow(() -> new ReservationException(RESERVE_NOT_FOUND));
+
+        if (state.getStatus() == ReservationStatus.VISITED) {
+            return;
+        }
+
+        if (now.isAfter(state.getReservedAt().plusMinutes(GRACE_MINUTES))) {
             throw new ReservationException(RESERVE_CANCELED);
         }
 
-        if (!reservation.isConfirm()) {
+        if (state.getStatus() != ReservationStatus.CONFIRMED) {
             throw new ReservationException(RESERVE_NOT_ALLOWED);
         }
     }
@@ -1,50 +1,89 @@
 package zerobase.reservation.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import zerobase.reservation.component.ReadYourWritesTracker;
+import zerobase.reservation.component.ReservationStreamHub;
+import zerobase.reservation.component.StoreCache;
 import zerobase.reservation.domain.Manager;
 import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.ReservationSlot;
 import zerobase.reservation.domain.Store;
 import zerobase.reservation.dto.ManagerDto;
+import zerobase.reservation.dto.PageCursor;
 import zerobase.reservation.dto.ReservationConfirm;
+import zerobase.reservation.dto.ReservationConfirmBulk;
+import zerobase.reservation.dto.ReservationPageDto;
 import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.dto.StoreSnapshot;
+import zerobase.reservation.event.ReservationChangedEvent;
+import zerobase.reservation.event.StoreChangedEvent;
 import zerobase.reservation.exception.ManagerException;
 import zerobase.reservation.exception.MemberException;
 import zerobase.reservation.exception.StoreException;
 import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.ReservationArchiveRepository;
 import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.ReservationSlotRepository;
 import zerobase.reservation.repository.StoreRepository;
 import zerobase.reservation.security.TokenProvider;
+import zerobase.reservation.security.UserPrincipal;
 import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static zerobase.reservation.type.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
-public class ManagerService implements UserDetailsService {
+public class ManagerService {
+    //MariaDB DATETIME 범위
+    private static final LocalDateTime MIN_RESERVED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_RESERVED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ManagerRepository managerRepository;
     private final StoreRepository storeRepository;
+    private final StoreCache storeCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
     private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final ReservationSlotRepository slotRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationStreamHub reservationStreamHub;
 
+    @Value("${reservation.slot.default-capacity}")
+    private int defaultSlotCapacity;
 
-    @Override
-    public UserDetails loadUserByUsername(String mail) throws UsernameNotFoundException {
-        return this.managerRepository.findByMail(mail)
+    @Value("${reservation.page.default-size}")
+    private int defaultPageSize;
 
-                .orElseThrow(RuntimeException::new);
-    }
+    @Value("${reservation.page.max-size}")
+    private int maxPageSize;
+
+    @Value("${reservation.archive.after-days}")
+    private long archiveAfterDays;
+
+    @Value("${reservation.bulk-confirm.max-items}")
+    private int maxBulkConfirmItems;
 
     /**
      * 점장 회원가입
@@ -71,6 +110,7 @@ public class ManagerService implements UserDetailsService {
     /**
      * 로그인 유효한지 확인
      */
+    @Transactional(readOnly = true)
     public String authenticate(ManagerDto.LoginRequest manager) {
         var user = this.managerRepository.findByMail(manager.getMail())
                 .orElseThrow(() -> new ManagerException(USER_NOT_FOUND));
@@ -78,16 +118,17 @@ public class ManagerService implements UserDetailsService {
         if (!this.passwordEncoder.matches(manager.getPassword(), user.getPassword())) {
             throw new ManagerException(PASSWORD_UNMATCHED);
         }
-        return this.tokenProvider.generateToken(user.getMail(), user.getRole());
+        return this.tokenProvider.generateToken(user.getId(), user.getMail(), user.getRole());
     }
 
     /**
      * 매장 추가
      */
     @Transactional
-    public StoreDto.StoreResponse addStore(StoreDto.AddStoreRequest store, String token) {
+    public StoreDto.StoreResponse addStore(StoreDto.AddStoreRequest store, UserPrincipal principal) {
+        readYourWritesTracker.markWrite(principal);
 
-        Manager manager = getManagerEntity(token);
+        Manager manager = managerRepository.getReferenceById(principal.getId());
 
         int count = storeRepository.countByStoreName(store.getStoreName());
         if (count > 0) {
@@ -96,8 +137,11 @@ public class ManagerService implements UserDetailsService {
 
         Store storeEntity = store.toEntity();
         storeEntity.setManager(manager);
+        storeEntity.setSlotCapacity(store.getSlotCapacity() != null ?
+                store.getSlotCapacity() : defaultSlotCapacity);
 
         var result = storeRepository.save(storeEntity);
+        eventPublisher.publishEvent(StoreChangedEvent.saved(result));
         return StoreDto.StoreResponse.builder()
                 .storeName(result.getStoreName())
                 .createdAt(result.getCreatedAt())
@@ -107,14 +151,13 @@ public class ManagerService implements UserDetailsService {
      * 매장 수정
      */
     @Transactional
-    public StoreDto.StoreResponse updateStore(Long storeId, StoreDto.UpdateStoreRequest store, String token) {
-
-        Manager manager = getManagerEntity(token);
+    public StoreDto.StoreResponse updateStore(Long storeId, StoreDto.UpdateStoreRequest store, UserPrincipal principal) {
+        readYourWritesTracker.markWrite(principal);
 
         Store storeEntity = storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreException(STORE_NOT_FOUND));
 
-        if (!storeEntity.getManager().equals(manager)) {
+        if (!Objects.equals(storeEntity.getManager().getId(), principal.getId())) {
             throw new StoreException(NO_PERMISSION);
         }
 
@@ -127,8 +170,14 @@ public class ManagerService implements UserDetailsService {
         }
         storeEntity.setDescription(store.getDescription());
         storeEntity.setLocation(store.getLocation());
+        storeEntity.setLatitude(store.getLatitude());
+        storeEntity.setLongitude(store.getLongitude());
+        if (store.getSlotCapacity() != null) {
+            storeEntity.setSlotCapacity(store.getSlotCapacity());
+        }
 
         var result = storeRepository.save(storeEntity);
+        eventPublisher.publishEvent(StoreChangedEvent.saved(result));
         return StoreDto.StoreResponse.builder()
                 .storeName(result.getStoreName())
                 .location(result.getLocation())
@@ -140,82 +189,155 @@ public class ManagerService implements UserDetailsService {
      * 매장 삭제
      */
     @Transactional
-    public void deleteStore(Long storeId, String token) {
+    public void deleteStore(Long storeId, UserPrincipal principal) {
+        readYourWritesTracker.markWrite(principal);
 
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreException(STORE_NOT_FOUND));
 
-        Manager manager = getManagerEntity(token);
-        if (!store.getManager().equals(manager)) {
+        if (!Objects.equals(store.getManager().getId(), principal.getId())) {
             throw new StoreException(NO_PERMISSION);
         }
 
         storeRepository.delete(store);
+        eventPublisher.publishEvent(StoreChangedEvent.deleted(store));
     }
 
     /**
-     * email로 해당 점장 Entity를 찾는 메소드
-     * - private 메소드 getMailFromToken 이용해서 mail을 가져와서
-     * manager 테이블에 있는지 확인.
+     * 해당 점장 기준 등록된 매장 확인
+     * - 매장별 리뷰 수, 다가오는 예약 수, 오늘 방문 수를 함께 한 번에 조회.
      */
-    private Manager getManagerEntity(String token) {
-        String mail = getMailFromToken(token);
-
-        Optional<Manager> optionalManager = managerRepository.findByMail(mail);
-        if (optionalManager.isEmpty()) {
-            throw new ManagerException(MANAGER_NOT_FOUND);
-        }
-
-        return optionalManager.get();
+    @Transactional(readOnly = true)
+    public List<StoreDto.ManagerStoreResponse> searchStore(UserPrincipal principal) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
+
+        return storeRepository.findManagerStores(principal.getId(), ReservationStatus.ACTIVE,
+                        now, todayStart, todayStart.plusDays(1))
+                .stream()
+                .map(row -> StoreDto.ManagerStoreResponse.builder()
+                        .storeId(row.getId())
+                        .storeName(row.getStoreName())
+                        .location(row.getLocation())
+                        .description(row.getDescription())
+                        .slotCapacity(row.getSlotCapacity())
+                        .reviewCount(row.getReviewCount())
+                        .upcomingReservationCount(row.getUpcomingCount())
+                        .todayVisitCount(row.getTodayVisitCount())
+                        .build())
+                .toList();
     }
 
     /**
-     * 토큰에서 email 꺼내오는 메소드
-     * - TokenProvider의 getMail 메소드를 이용해서 토큰에서 mail값을 꺼내옴.
+     * 해당 매장 기준 등록된 예약 확인
+     * - 예약시간, id 순서의 keyset 페이지로 size건씩 조회.
+     * - 보관 기준일보다 이전 구간을 볼 때만 보관 테이블도 함께 조회해서 합침.
      */
+    @Transactional(readOnly = true)
+    public ReservationPageDto.Response searchReservation(Long storeId, ReservationPageDto.Request request,
+                                                         UserPrincipal principal) {
+        StoreSnapshot store = storeCache.findById(storeId)
+                .orElseThrow(() -> new ManagerException(STORE_NOT_FOUND));
 
-    private String getMailFromToken(String token) {
-        if (!ObjectUtils.isEmpty(token) && token.startsWith("Bearer")) {
-            token =  token.substring("Bearer".length());
+
+        if (!Objects.equals(principal.getId(), store.getManagerId())) {
+            throw new ManagerException(UNMATCHED_MANAGER_STORE);
         }
-        return tokenProvider.getMail(token);
+
+        LocalDateTime from = request.getFrom() == null ? MIN_RESERVED_AT : request.getFrom().atStartOfDay();
+        LocalDateTime to = request.getTo() == null ? MAX_RESERVED_AT : request.getTo().plusDays(1).atStartOfDay();
+        if (!from.isBefore(to)) {
+            throw new ManagerException(INVALID_DATE_RANGE);
+        }
+        Set<ReservationStatus> statuses = request.getStatus() == null || request.getStatus().isEmpty()
+                ? EnumSet.allOf(ReservationStatus.class) : request.getStatus();
+        int size = request.getSize() == null ? defaultPageSize : Math.min(Math.max(request.getSize(), 1), maxPageSize);
+
+        //첫 페이지는 from 시각부터, 이후는 커서 다음부터
+        PageCursor after = new PageCursor(from, 0L);
+        if (request.getCursor() != null) {
+            try {
+                after = PageCursor.decode(request.getCursor());
+            } catch (IllegalArgumentException e) {
+                throw new ManagerException(INVALID_CURSOR);
+            }
+        }
+
+        //한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<ReservationRepository.StoreReservationRow> rows = reservationRepository.findStorePage(
+                storeId, statuses, after.getAt(), after.getId(), to, Limit.of(size + 1));
+        //보관된 예약은 모두 보관 기준일 이전 예약 (하루 여유를 둠)
+        if (after.getAt().isBefore(LocalDateTime.now().minusDays(archiveAfterDays - 1))) {
+            rows = mergeByReservedAt(rows, archiveRepository.findStorePage(
+                    storeId, statuses, after.getAt(), after.getId(), to, Limit.of(size + 1)), size + 1);
+        }
+        boolean hasNext = rows.size() > size;
+        List<ReservationRepository.StoreReservationRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        ReservationRepository.StoreReservationRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ReservationPageDto.Response.builder()
+                .items(page.stream()
+                        .map(row -> ReservationPageDto.Item.builder()
+                                .reservationId(row.getId())
+                                .reservationNum(row.getReservationNum())
+                                .reservedAt(row.getReservedAt())
+                                .status(row.getStatus())
+                                .memberId(row.getMemberId())
+                                .memberName(row.getMemberName())
+                                .build())
+                        .toList())
+                .nextCursor(hasNext ? new PageCursor(last.getReservedAt(), last.getId()).encode() : null)
+                .build();
     }
 
     /**
-     * 해당 점장 기준 등록된 매장 확인
+     * (예약시간, id) 순서로 정렬된 두 목록을 합쳐 앞에서 limit건
+     * - 보관 처리 중인 예약이 양쪽에 모두 보일 수 있어 같은 id는 한 번만 넣음.
      */
-    public List<Store> searchStore(String token) {
-        Manager manager = getManagerEntity(token);
-        List<Store> storeList = storeRepository.findByManager(manager);
-
-        return storeList;
+    private static List<ReservationRepository.StoreReservationRow> mergeByReservedAt(
+            List<ReservationRepository.StoreReservationRow> hot,
+            List<ReservationRepository.StoreReservationRow> archived, int limit) {
+        Comparator<ReservationRepository.StoreReservationRow> order = Comparator
+                .comparing(ReservationRepository.StoreReservationRow::getReservedAt)
+                .thenComparing(ReservationRepository.StoreReservationRow::getId);
+        List<ReservationRepository.StoreReservationRow> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < hot.size() || j < archived.size())) {
+            ReservationRepository.StoreReservationRow next;
+            if (j >= archived.size() || (i < hot.size() && order.compare(hot.get(i), archived.get(j)) <= 0)) {
+                next = hot.get(i++);
+            } else {
+                next = archived.get(j++);
+            }
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
     }
 
     /**
-     * 해당 매장 기준 등록된 예약 확인
+     * 매장 예약 변경 실시간 구독
      */
-    public List<Reservation> searchReservation(Long storeId, String token) {
-        Manager manager = getManagerEntity(token);
-
-        Store store = storeRepository.findById(storeId)
+    public SseEmitter subscribeReservation(Long storeId, UserPrincipal principal) {
+        StoreSnapshot store = storeCache.findById(storeId)
                 .orElseThrow(() -> new ManagerException(STORE_NOT_FOUND));
 
-
-        if (!Objects.equals(manager.getId(), store.getManager().getId())) {
+        if (!Objects.equals(principal.getId(), store.getManagerId())) {
             throw new ManagerException(UNMATCHED_MANAGER_STORE);
         }
-
-        return reservationRepository.findByStoreId(storeId)
-                .orElseThrow(() -> new ManagerException(RESERVE_NOT_FOUND));
+        return reservationStreamHub.subscribe(storeId);
     }
 
     /**
      * 예약 승인/거절
      */
     @Transactional
-    public Long confirmReservation(ReservationConfirm reservationConfirm, String token) {
+    public Long confirmReservation(ReservationConfirm reservationConfirm, UserPrincipal principal) {
+        readYourWritesTracker.markWrite(principal);
         //매장 존재 확인
-        Store store = storeRepository.findById(reservationConfirm.getStoreId())
+        StoreSnapshot store = storeCache.findById(reservationConfirm.getStoreId())
                 .orElseThrow(() -> new ManagerException(STORE_NOT_FOUND));
 
         //예약 존재 확인
@@ -226,15 +348,107 @@ public class ManagerService implements UserDetailsService {
         if (!Objects.equals(store.getId(), reservation.getStore().getId())) {
             throw new ManagerException(UNMATCHED_STORE_RESERVE);
         }
-        Manager manager = this.getManagerEntity(token);
 
         //해당 점장의 매장에서 일어난 예약인지 확인
-        if (!Objects.equals(reservation.getStore().getManager(), manager)) {
+        if (!Objects.equals(store.getManagerId(), principal.getId())) {
             throw new ManagerException(UNMATCHED_RESERVE_MANAGER);
         }
-        reservation.setConfirm(reservationConfirm.isConfirmYn());
-        reservationRepository.save(reservation);
+        //대기 중인 예약만 승인/거절 가능
+        if (reservation.getStatus() != ReservationStatus.REQUESTED) {
+            throw new ManagerException(RESERVE_ALREADY_PROCESSED);
+        }
+        //읽은 뒤 만료/다른 승인 처리가 먼저 끝났을 수 있으므로 아직 대기 중일 때만 바꾸고,
+        //바뀐 경우에만 정원 반환/이벤트 발행
+        ReservationStatus status = reservationConfirm.isConfirmYn()
+                ? ReservationStatus.CONFIRMED : ReservationStatus.REJECTED;
+        if (reservationRepository.changeStatus(List.of(reservation.getId()), ReservationStatus.REQUESTED, status) == 0) {
+            throw new ManagerException(RESERVE_ALREADY_PROCESSED);
+        }
+        if (status == ReservationStatus.REJECTED) {
+            slotRepository.release(store.getId(), ReservationSlot.slotOf(reservation.getReservedAt()), 1);
+        }
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                reservation.getId(), store.getId(), reservation.getReservedAt(), status));
 
         return reservationConfirm.getReservationId();
     }
+
+    /**
+     * 예약 일괄 승인/거절
+     * - 매장 소유 확인은 한 번, 대상 예약은 한 번에 잠금 조회하고 승인/거절을 각각 한 번의 UPDATE로 처리.
+     * - 다른 매장 예약이거나 이미 처리된 건은 해당 건만 실패로 돌려주고 나머지는 처리.
+     */
+    @Transactional
+    public List<ReservationConfirmBulk.Result> confirmReservations(ReservationConfirmBulk.Request request,
+                                                                   UserPrincipal principal) {
+        readYourWritesTracker.markWrite(principal);
+        List<ReservationConfirmBulk.Item> items = request.getItems() == null ? List.of() : request.getItems();
+        if (items.size() > maxBulkConfirmItems) {
+            throw new ManagerException(TOO_MANY_ITEMS);
+        }
+
+        //매장 존재 확인, 해당 점장의 매장인지 확인
+        StoreSnapshot store = storeCache.findById(request.getStoreId())
+                .orElseThrow(() -> new ManagerException(STORE_NOT_FOUND));
+        if (!Objects.equals(store.getManagerId(), principal.getId())) {
+            throw new ManagerException(UNMATCHED_RESERVE_MANAGER);
+        }
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> ids = items.stream()
+                .map(ReservationConfirmBulk.Item::getReservationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Reservation> reservations = ids.isEmpty() ? Map.of() :
+                reservationRepository.findForConfirm(store.getId(), ids).stream()
+                        .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        List<ReservationConfirmBulk.Result> results = new ArrayList<>(items.size());
+        List<Reservation> confirmed = new ArrayList<>();
+        List<Reservation> rejected = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (ReservationConfirmBulk.Item item : items) {
+            Long id = item.getReservationId();
+            Reservation reservation = reservations.get(id);
+            //해당 매장의 예약이 아니면 없는 예약으로 처리
+            if (reservation == null) {
+                results.add(ReservationConfirmBulk.Result.fail(id, RESERVE_NOT_FOUND));
+                continue;
+            }
+            //대기 중인 예약만, 같은 예약은 한 번만 처리
+            if (reservation.getStatus() != ReservationStatus.REQUESTED || !seen.add(id)) {
+                results.add(ReservationConfirmBulk.Result.fail(id, RESERVE_ALREADY_PROCESSED));
+                continue;
+            }
+            if (item.isConfirmYn()) {
+                confirmed.add(reservation);
+                results.add(ReservationConfirmBulk.Result.success(id, ReservationStatus.CONFIRMED));
+            } else {
+                rejected.add(reservation);
+                results.add(ReservationConfirmBulk.Result.success(id, ReservationStatus.REJECTED));
+            }
+        }
+
+        changeStatus(store, confirmed, ReservationStatus.CONFIRMED);
+        changeStatus(store, rejected, ReservationStatus.REJECTED);
+
+        //거절된 예약은 시간대별로 묶어 정원 반환
+        Map<LocalDateTime, Long> releases = rejected.stream()
+                .collect(Collectors.groupingBy(r -> ReservationSlot.slotOf(r.getReservedAt()), Collectors.counting()));
+        releases.forEach((slotAt, count) -> slotRepository.release(store.getId(), slotAt, count.intValue()));
+
+        return results;
+    }
+
+    private void changeStatus(StoreSnapshot store, List<Reservation> reservations, ReservationStatus status) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        reservationRepository.changeStatus(
+                reservations.stream().map(Reservation::getId).toList(), ReservationStatus.REQUESTED, status);
+        reservations.forEach(r -> eventPublisher.publishEvent(new ReservationChangedEvent(
+                r.getId(), store.getId(), r.getReservedAt(), status)));
+    }
 }
@@ -1,50 +1,57 @@
 package zerobase.reservation.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ObjectUtils;
+import zerobase.reservation.component.ReadYourWritesTracker;
+import zerobase.reservation.component.ReservationNumGenerator;
+import zerobase.reservation.component.StoreCache;
 import zerobase.reservation.domain.Member;
 import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.ReservationSlot;
 import zerobase.reservation.domain.Review;
 import zerobase.reservation.dto.MemberDto;
 import zerobase.reservation.dto.ReservationDto;
 import zerobase.reservation.dto.ReviewDto;
+import zerobase.reservation.dto.StoreSnapshot;
+import zerobase.reservation.event.ReservationChangedEvent;
+import zerobase.reservation.event.ReviewChangedEvent;
 import zerobase.reservation.exception.MemberException;
 import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReservationArchiveRepository;
 import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.ReservationSlotRepository;
 import zerobase.reservation.repository.ReviewRepository;
+import zerobase.reservation.repository.StoreRatingRepository;
 import zerobase.reservation.repository.StoreRepository;
 import zerobase.reservation.security.TokenProvider;
+import zerobase.reservation.security.UserPrincipal;
 import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static zerobase.reservation.type.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
-public class MemberService implements UserDetailsService {
+public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final ReservationRepository reserveRepository;
+    private final ReservationArchiveRepository archiveRepository;
     private final StoreRepository storeRepository;
+    private final StoreCache storeCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
     private final ReviewRepository reviewRepository;
-
-
-    @Override
-    public UserDetails loadUserByUsername(String mail) throws UsernameNotFoundException {
-        return this.memberRepository.findByMail(mail)
-                .orElseThrow(RuntimeException::new);
-    }
+    private final StoreRatingRepository storeRatingRepository;
+    private final ReservationSlotRepository slotRepository;
+    private final ReservationNumGenerator reservationNumGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이용자 회원가입
@@ -71,6 +78,7 @@ public class MemberService implements UserDetailsService {
     /**
      * 로그인 유효한지 확인
      */
+    @Transactional(readOnly = true)
     public String authenticate(MemberDto.LoginRequest member) {
         var user = memberRepository.findByMail(member.getMail())
                 .orElseThrow(() -> new MemberException(USER_NOT_FOUND));
@@ -78,47 +86,47 @@ public class MemberService implements UserDetailsService {
         if (!this.passwordEncoder.matches(member.getPassword(), user.getPassword())) {
             throw new MemberException(PASSWORD_UNMATCHED);
         }
-        return this.tokenProvider.generateToken(member.getMail(), user.getRole());
+        return this.tokenProvider.generateToken(user.getId(), user.getMail(), user.getRole());
     }
 
     /**
      * 매장 예약
      */
     @Transactional
-    public ReservationDto addReservation(String token, ReservationDto reserve) {
-        //회원 존재하는지 확인
-        Member member = this.getMemberEntity(token);
+    public ReservationDto addReservation(UserPrincipal principal, ReservationDto reserve) {
+        readYourWritesTracker.markWrite(principal);
+        Member member = memberRepository.getReferenceById(principal.getId());
 
         //매장 존재하는지 확인
-        var store = storeRepository.findByStoreName(reserve.getStoreName())
+        StoreSnapshot store = storeCache.findByStoreName(reserve.getStoreName())
                 .orElseThrow(() -> new MemberException(STORE_NOT_FOUND));
 
-        //예약이 가능한지 확인 (동시간에 예약이 5건이면 안 됨)
-        if (reserveRepository.countByReservedAt(reserve.getReservedAt()) == 5) {
-            throw new MemberException(RESERVE_IS_FULL);
+        //해당 회원 예약 중에 같은 매장에 진행 중인 예약이 있으면 안 됨
+        if (reserveRepository.existsByMemberIdAndStoreIdAndStatusIn(
+                principal.getId(), store.getId(), ReservationStatus.ACTIVE)) {
+            throw new MemberException(RESERVE_DUPLICATED);
         }
 
-        //해당 회원 예약 중에 같은 매장에 예약한 게 있고 방문이 되지 않았으면 안 됨
-        Optional<List<Reservation>> reserveStore = reserveRepository.findByStore(store);
-        if (reserveStore.isPresent() && reserveStore.get().size() > 0) {
-            List<Reservation> reserveList = reserveStore.get();
-            reserveList.stream().forEach(item -> {
-                if (Objects.equals(item.getStore().getId(), store.getId()) &&  !item.isVisited()) {
-                    throw new MemberException(RESERVE_DUPLICATED);
-                }
-            });
-        }
+        String reservationNum = reservationNumGenerator.nextReservationNum();
 
-        String reservationNum = this.getReserveNum(member.getId(), reserve.getReservedAt(), store.getId());
+        //예약이 가능한지 확인 (매장의 해당 시간대 정원이 남아 있어야 함)
+        LocalDateTime slotAt = ReservationSlot.slotOf(reserve.getReservedAt());
+        slotRepository.createIfAbsent(store.getId(), slotAt);
+        if (slotRepository.acquire(store.getId(), slotAt, store.getSlotCapacity()) == 0) {
+            throw new MemberException(RESERVE_IS_FULL);
+        }
 
-        reserveRepository.save(
+        Reservation saved = reserveRepository.save(
                 Reservation.builder()
                         .reservationNum(reservationNum)
                         .reservedAt(reserve.getReservedAt())
+                        .status(ReservationStatus.REQUESTED)
                         .member(member)
-                        .store(store)
+                        .store(storeRepository.getReferenceById(store.getId()))
                         .build()
         );
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                saved.getId(), store.getId(), saved.getReservedAt(), saved.getStatus()));
         return ReservationDto.builder()
                 .storeName(reserve.getStoreName())
                 .reservedAt(reserve.getReservedAt())
@@ -126,75 +134,40 @@ public class MemberService implements UserDetailsService {
                 .build();
     }
 
-    /**
-     * email로 해당 회원 Entity를 찾는 메소드
-     * - private 메소드 getMailFromToken 이용해서 mail을 가져와서
-     *  manager 테이블에 있는지 확인.
-     */
-    private Member getMemberEntity(String token) {
-        String mail = getMailFromToken(token);
-
-        Optional<Member> optionalMember = memberRepository.findByMail(mail);
-        if (optionalMember.isEmpty()) {
-            throw new MemberException(MEMBER_NOT_FOUND);
-        }
-
-        return optionalMember.get();
-    }
-
-    /**
-     * 토큰에서 email 꺼내오는 메소드
-     * - TokenProvider의 getMail 메소드를 이용해서 토큰에서 mail값을 꺼내옴.
-     */
-
-    private String getMailFromToken(String token) {
-        if (!ObjectUtils.isEmpty(token) && token.startsWith("Bearer")) {
-            token =  token.substring("Bearer".length());
-        }
-        return tokenProvider.getMail(token);
-    }
-
-    /**
-     * 예약번호 발급
-     * 회원 아이디 + 예약 년월일 + 매장 아이디를 붙여서 반환
-     */
-    private String getReserveNum(Long memberId, LocalDateTime reservedAt, Long storeId) {
-        return memberId +
-                Integer.toString(reservedAt.getYear()) +
-                reservedAt.getMonth() +
-                reservedAt.getDayOfMonth() +
-                storeId;
-    }
-
     /**
      * 리뷰 작성
      */
     @Transactional
-    public ReviewDto.Response addReview(ReviewDto.Request review, String token) {
-        //token으로 회원확인
-        Member member = this.getMemberEntity(token);
-
-        //존재하는 예약인지 확인
-        Reservation reservation = reserveRepository.findByReservationNum(review.getReservationNum())
+    public ReviewDto.Response addReview(ReviewDto.Request review, UserPrincipal principal) {
+        //존재하는 예약인지 확인 (지난 예약은 보관 테이블에서 찾음)
+        Reservation reservation = reserveRepository.findWithStoreAndMemberByReservationNum(review.getReservationNum())
+                .or(() -> archiveRepository.findByReservationNum(review.getReservationNum())
+                        .map(archive -> archive.toReservation(
+                                memberRepository.getReferenceById(archive.getMemberId()),
+                                storeRepository.getReferenceById(archive.getStoreId()))))
                 .orElseThrow(() -> new MemberException(RESERVE_NOT_FOUND));
         //해당 예약건에 예약한 사람이 맞는지 확인
-        if (!Objects.equals(member.getId(), reservation.getMember().getId())) {
+        if (!Objects.equals(principal.getId(), reservation.getMember().getId())) {
             throw new MemberException(UNMATCHED_MEMBER_RESERVE);
         }
         //방문 여부가 true인지 확인
         validateVisited(reservation);
+        validateRating(review.getRating());
 
         Review savedReview = reviewRepository.save(
                 Review.builder()
                         .store(reservation.getStore())
                         .member(reservation.getMember())
                         .text(review.getText())
+                        .rating(review.getRating())
                         .build()
         );
+        adjustStoreRating(reservation.getStore().getId(), 0, review.getRating());
         return ReviewDto.Response.builder()
                 .storeName(savedReview.getStore().getStoreName())
                 .memberName(savedReview.getMember().getName())
                 .text(savedReview.getText())
+                .rating(savedReview.getRating())
                 .createdAt(savedReview.getCreatedAt())
                 .build();
     }
@@ -202,41 +175,78 @@ public class MemberService implements UserDetailsService {
      * 리뷰 수정
      */
     @Transactional
-    public ReviewDto.Response updateReview(Long reviewId, ReviewDto.Request reviewRequest, String token) {
-        Member member = this.getMemberEntity(token);
-
-        Review review = reviewRepository.findById(reviewId)
+    public ReviewDto.Response updateReview(Long reviewId, ReviewDto.Request reviewRequest, UserPrincipal principal) {
+        Review review = reviewRepository.findWithStoreAndMemberById(reviewId)
                 .orElseThrow(() -> new MemberException(REVIEW_NOT_FOUND));
 
-        if (!Objects.equals(member.getId(), review.getMember().getId())) {
+        if (!Objects.equals(principal.getId(), review.getMember().getId())) {
             throw new MemberException(UNMATCHED_MEMBER_REVIEW);
         }
+        validateRating(reviewRequest.getRating());
 
+        //별점이 바뀐 경우에만 집계 갱신
+        if (review.getRating() != reviewRequest.getRating()) {
+            adjustStoreRating(review.getStore().getId(), review.getRating(), reviewRequest.getRating());
+        } else {
+            eventPublisher.publishEvent(new ReviewChangedEvent(review.getStore().getId(), 0, 0));
+        }
         review.setText(reviewRequest.getText());
+        review.setRating(reviewRequest.getRating());
 
         Review updatedReview = reviewRepository.save(review);
         return ReviewDto.Response.builder()
                 .storeName(updatedReview.getStore().getStoreName())
                 .memberName(updatedReview.getMember().getName())
                 .text(updatedReview.getText())
+                .rating(updatedReview.getRating())
                 .updatedAt(updatedReview.getUpdatedAt())
                 .build();
     }
     /**
      * 리뷰 삭제
      */
-    public void deleteReview(Long reviewId, String token) {
-        Member member = this.getMemberEntity(token);
-
+    @Transactional
+    public void deleteReview(Long reviewId, UserPrincipal principal) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new MemberException(REVIEW_NOT_FOUND));
 
-        if (!Objects.equals(member.getId(), review.getMember().getId()) &&
-        !member.getRole().equals("ROLE_MANAGER")) {
+        //작성한 회원이나 그 매장의 점장만 삭제 가능
+        //(회원 id와 점장 id는 따로 매겨져 겹칠 수 있으므로 역할부터 확인)
+        boolean writer = principal.isMember()
+                && Objects.equals(principal.getId(), review.getMember().getId());
+        if (!writer && !(principal.isManager()
+                && Objects.equals(principal.getId(), review.getStore().getManager().getId()))) {
             throw new MemberException(UNMATCHED_MEMBER_REVIEW);
         }
 
         reviewRepository.delete(review);
+        adjustStoreRating(review.getStore().getId(), review.getRating(), 0);
+    }
+
+    private void validateRating(int rating) {
+        if (rating < 1 || rating > 5) {
+            throw new MemberException(INVALID_RATING);
+        }
+    }
+
+    /**
+     * 매장 평점 집계 갱신
+     * - 빠지는 별점(removedRating)과 더해지는 별점(addedRating)의 증감분을 한 번의 UPSERT로 반영. 0은 없음.
+     */
+    private void adjustStoreRating(Long storeId, int removedRating, int addedRating) {
+        long[] buckets = new long[6];
+        if (removedRating > 0) {
+            buckets[removedRating]--;
+        }
+        if (addedRating > 0) {
+            buckets[addedRating]++;
+        }
+        long countDelta = (addedRating > 0 ? 1 : 0) - (removedRating > 0 ? 1 : 0);
+        long sumDelta = addedRating - removedRating;
+
+        storeRatingRepository.accumulate(storeId, countDelta, sumDelta,
+                buckets[1], buckets[2], buckets[3], buckets[4], buckets[5]);
+        eventPublisher.publishEvent(new ReviewChangedEvent(storeId, countDelta, sumDelta));
     }
 
     /**
@@ -244,7 +254,7 @@ public class MemberService implements UserDetailsService {
      * - 방문여부가 false이면 예외 발생.
      */
     private void validateVisited(Reservation reservation) {
-        if (!reservation.isVisited()) {
+        if (reservation.getStatus() != ReservationStatus.VISITED) {
             throw new MemberException(REVIEW_NOT_ALLOWED);
         }
     }
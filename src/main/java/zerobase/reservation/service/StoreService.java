@@ -1,25 +1,267 @@
 package zerobase.reservation.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import zerobase.reservation.domain.Store;
+import org.springframework.transaction.annotation.Transactional;
+import zerobase.reservation.component.ReviewFeedCache;
+import zerobase.reservation.component.StoreCache;
+import zerobase.reservation.component.StoreGeoIndex;
+import zerobase.reservation.component.StoreNameIndex;
+import zerobase.reservation.component.StoreOccupancy;
+import zerobase.reservation.component.StoreRatingRanking;
+import zerobase.reservation.domain.ReservationSlot;
+import zerobase.reservation.domain.StoreRating;
+import zerobase.reservation.dto.AvailabilityDto;
+import zerobase.reservation.dto.PageCursor;
+import zerobase.reservation.dto.ReviewDto;
 import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.dto.StoreSnapshot;
 import zerobase.reservation.exception.StoreException;
+import zerobase.reservation.repository.ReviewRepository;
+import zerobase.reservation.repository.StoreRatingRepository;
 import zerobase.reservation.repository.StoreRepository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static zerobase.reservation.type.ErrorCode.INVALID_CURSOR;
+import static zerobase.reservation.type.ErrorCode.INVALID_DATE_RANGE;
+import static zerobase.reservation.type.ErrorCode.INVALID_LOCATION;
 import static zerobase.reservation.type.ErrorCode.STORE_NOT_FOUND;
 
 @Service
 @RequiredArgsConstructor
 public class StoreService {
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final StoreRepository storeRepository;
+    private final StoreCache storeCache;
+    private final StoreOccupancy storeOccupancy;
+    private final StoreNameIndex storeNameIndex;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreRatingRanking storeRatingRanking;
+    private final StoreRatingRepository storeRatingRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewFeedCache reviewFeedCache;
+
+    @Value("${reservation.availability.max-search-days}")
+    private int maxSearchDays;
+
+    @Value("${reservation.store-index.max-suggestions}")
+    private int maxSuggestions;
+
+    @Value("${reservation.geo.max-radius-km}")
+    private double maxRadiusKm;
+
+    @Value("${reservation.geo.max-results}")
+    private int maxNearbyResults;
+
+    @Value("${reservation.rating.max-top}")
+    private int maxTopRated;
+
+    @Value("${reservation.review-feed.default-size}")
+    private int defaultReviewPageSize;
+
+    @Value("${reservation.review-feed.max-size}")
+    private int maxReviewPageSize;
 
 
     /**
      * 매장 검색
      */
     public StoreDto.SearchStoreResponse searchStore(String storeName) {
-        return Store.toResponse(storeRepository.findByStoreName(storeName)
-                .orElseThrow(() -> new StoreException(STORE_NOT_FOUND)));
+        return storeCache.findByStoreName(storeName)
+                .orElseThrow(() -> new StoreException(STORE_NOT_FOUND))
+                .toResponse();
+    }
+
+    /**
+     * 평점 상위 매장
+     * - 메모리의 평점 순위에서 꺼내고, 매장 정보는 매장 캐시에서 채움.
+     */
+    public List<StoreDto.RatedStore> getTopRated(Integer limit) {
+        int size = limit == null ? maxTopRated : Math.min(Math.max(limit, 1), maxTopRated);
+        List<StoreDto.RatedStore> result = new ArrayList<>(size);
+        for (StoreRatingRanking.Rating rating : storeRatingRanking.top(size)) {
+            storeCache.findById(rating.storeId()).ifPresent(store -> result.add(
+                    StoreDto.RatedStore.builder()
+                            .storeId(store.getId())
+                            .storeName(store.getStoreName())
+                            .averageRating(rating.average())
+                            .reviewCount(rating.count())
+                            .build()));
+        }
+        return result;
+    }
+
+    /**
+     * 매장 평점 요약 (평균, 별점별 리뷰 수)
+     */
+    @Transactional(readOnly = true)
+    public StoreDto.RatingSummary getRatingSummary(Long storeId) {
+        StoreRating rating = storeRatingRepository.findById(storeId)
+                .orElseGet(() -> new StoreRating(storeId, 0, 0, 0, 0, 0, 0, 0));
+
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating.getRating1());
+        histogram.put(2, rating.getRating2());
+        histogram.put(3, rating.getRating3());
+        histogram.put(4, rating.getRating4());
+        histogram.put(5, rating.getRating5());
+        return StoreDto.RatingSummary.builder()
+                .storeId(storeId)
+                .reviewCount(rating.getReviewCount())
+                .averageRating(rating.getAverage())
+                .histogram(histogram)
+                .build();
+    }
+
+    /**
+     * 매장 리뷰 피드
+     * - 작성시각, id 역순의 keyset 페이지로 size건씩 조회하므로 매장의 리뷰 컬렉션을 읽지 않음.
+     * - 커서 없는 기본 크기 첫 페이지는 캐시에서.
+     */
+    public ReviewDto.FeedResponse getReviews(Long storeId, String cursor, Integer limit) {
+        if (storeCache.findById(storeId).isEmpty()) {
+            throw new StoreException(STORE_NOT_FOUND);
+        }
+        int size = limit == null ? defaultReviewPageSize : Math.min(Math.max(limit, 1), maxReviewPageSize);
+        if (cursor == null && size == defaultReviewPageSize) {
+            return reviewFeedCache.getFirstPage(storeId,
+                    id -> findReviews(id, new PageCursor(MAX_CREATED_AT, Long.MAX_VALUE), size));
+        }
+
+        PageCursor before = new PageCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+        if (cursor != null) {
+            try {
+                before = PageCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new StoreException(INVALID_CURSOR);
+            }
+        }
+        return findReviews(storeId, before, size);
+    }
+
+    private ReviewDto.FeedResponse findReviews(Long storeId, PageCursor before, int size) {
+        //한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<ReviewRepository.ReviewFeedRow> rows = reviewRepository.findStoreFeed(
+                storeId, before.getAt(), before.getId(), Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<ReviewRepository.ReviewFeedRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        ReviewRepository.ReviewFeedRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ReviewDto.FeedResponse.builder()
+                .items(page.stream()
+                        .map(row -> ReviewDto.FeedItem.builder()
+                                .reviewId(row.getId())
+                                .memberName(row.getMemberName())
+                                .text(row.getText())
+                                .rating(row.getRating())
+                                .createdAt(row.getCreatedAt())
+                                .updatedAt(row.getUpdatedAt())
+                                .build())
+                        .toList())
+                .nextCursor(hasNext ? new PageCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * 매장명 자동완성
+     * - 접두어, 단어 시작 위치, 한글 초성으로 검색 ("ㅅㄱ" -> "서가").
+     */
+    public List<StoreDto.Suggestion> suggest(String query, Integer limit) {
+        int size = limit == null ? maxSuggestions : Math.min(Math.max(limit, 1), maxSuggestions);
+        return storeNameIndex.search(query, size);
+    }
+
+    /**
+     * 주변 매장 검색
+     * - radiusKm을 주면 반경 안의 매장, 없으면 max-radius-km 안에서 가까운 limit개를 가까운 순으로.
+     */
+    @Transactional(readOnly = true)
+    public List<StoreDto.NearbyStore> searchNearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180 || (radiusKm != null && radiusKm <= 0)) {
+            throw new StoreException(INVALID_LOCATION);
+        }
+        int size = limit == null ? maxNearbyResults : Math.min(Math.max(limit, 1), maxNearbyResults);
+        double radius = radiusKm == null ? maxRadiusKm : Math.min(radiusKm, maxRadiusKm);
+
+        if (storeGeoIndex.isReady()) {
+            return radiusKm == null
+                    ? storeGeoIndex.nearest(latitude, longitude, size, radius)
+                    : storeGeoIndex.withinRadius(latitude, longitude, radius, size);
+        }
+        return searchNearbyFromDb(latitude, longitude, radiusKm == null, radius, size);
+    }
+
+    /**
+     * 위치 색인이 준비되기 전 DB 사각 범위 조회
+     * - 가까운 k개를 찾을 때는 1km부터 반경을 두 배씩 넓혀가며 조회.
+     */
+    private List<StoreDto.NearbyStore> searchNearbyFromDb(double latitude, double longitude,
+                                                          boolean expand, double maxRadius, int size) {
+        double radius = expand ? Math.min(1.0, maxRadius) : maxRadius;
+        while (true) {
+            double latDelta = Math.toDegrees(radius / StoreGeoIndex.EARTH_RADIUS_KM);
+            double lonDelta = latDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+            double currentRadius = radius;
+            List<StoreDto.NearbyStore> found = storeRepository.findInBoundingBox(
+                            latitude - latDelta, latitude + latDelta, longitude - lonDelta, longitude + lonDelta)
+                    .stream()
+                    .map(store -> new StoreDto.NearbyStore(store.getId(), store.getStoreName(),
+                            store.getLatitude(), store.getLongitude(),
+                            StoreGeoIndex.distanceKm(latitude, longitude, store.getLatitude(), store.getLongitude())))
+                    .filter(store -> store.getDistanceKm() <= currentRadius)
+                    .sorted(Comparator.comparingDouble(StoreDto.NearbyStore::getDistanceKm))
+                    .limit(size)
+                    .toList();
+            if (!expand || found.size() >= size || radius >= maxRadius) {
+                return found;
+            }
+            radius = Math.min(radius * 2, maxRadius);
+        }
+    }
+
+    /**
+     * 예약 가능 달력
+     * - 기간 내 날짜별, 시간대별 남은 자리 수.
+     */
+    public AvailabilityDto.Response getAvailability(Long storeId, LocalDate from, LocalDate to) {
+        //기간은 최대 max-search-days일까지
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxSearchDays) {
+            throw new StoreException(INVALID_DATE_RANGE);
+        }
+        StoreSnapshot store = storeCache.findById(storeId)
+                .orElseThrow(() -> new StoreException(STORE_NOT_FOUND));
+
+        Map<LocalDate, int[]> occupancy = storeOccupancy.getOccupancy(storeId, from, to);
+
+        List<AvailabilityDto.Day> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            int[] reserved = occupancy.get(date);
+            List<AvailabilityDto.Slot> slots = new ArrayList<>(StoreOccupancy.SLOTS_PER_DAY);
+            for (int i = 0; i < StoreOccupancy.SLOTS_PER_DAY; i++) {
+                slots.add(AvailabilityDto.Slot.builder()
+                        .time(LocalTime.MIDNIGHT.plusMinutes((long) i * ReservationSlot.SLOT_MINUTES))
+                        .remaining(Math.max(store.getSlotCapacity() - reserved[i], 0))
+                        .build());
+            }
+            days.add(AvailabilityDto.Day.builder().date(date).slots(slots).build());
+        }
+        return AvailabilityDto.Response.builder()
+                .storeId(storeId)
+                .slotMinutes(ReservationSlot.SLOT_MINUTES)
+                .capacity(store.getSlotCapacity())
+                .days(days)
+                .build();
     }
 }
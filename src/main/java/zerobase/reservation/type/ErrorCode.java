@@ -16,12 +16,16 @@ public enum ErrorCode {
 
     STORE_NOT_FOUND("해당 매장이 없습니다."),
     STORE_DUPLICATED("중복된 매장 명입니다."),
+    INVALID_DATE_RANGE("조회 기간이 올바르지 않습니다."),
+    INVALID_LOCATION("검색 위치가 올바르지 않습니다."),
+    INVALID_CURSOR("잘못된 페이지 커서입니다."),
 
     RESERVE_IS_FULL("해당 시간에 예약이 다 찼습니다."),
     RESERVE_NOT_FOUND("예약 건이 없습니다."),
     RESERVE_CANCELED("예약시간 10분 전에 방문하지 않아 예약이 취소되었습니다."),
     RESERVE_NOT_ALLOWED("승인되지 않은 예약 건 입니다."),
     RESERVE_DUPLICATED("같은 매장에 대해 한 건의 예약만 가능합니다."),
+    RESERVE_ALREADY_PROCESSED("이미 승인/거절 처리된 예약 건입니다."),
     REVIEW_NOT_ALLOWED("방문하지 않은 예약 건에 대해 리뷰 작성이 불가합니다."),
 
     UNMATCHED_MANAGER_STORE("자신의 매장만 조회할 수 있습니다."),
@@ -30,7 +34,9 @@ public enum ErrorCode {
     UNMATCHED_RESERVE_MANAGER("자신의 매장 예약 건만 승인/거절 할 수 있습니다."),
 
     NO_PERMISSION("권한이 없습니다."),
+    TOO_MANY_ITEMS("한 번에 처리할 수 있는 건수를 초과했습니다."),
     REVIEW_NOT_FOUND("리뷰를 찾을 수 없습니다."),
+    INVALID_RATING("별점은 1 ~ 5 사이여야 합니다."),
     UNMATCHED_MEMBER_REVIEW("작성자가 일치하지 않습니다.");
 
     private final String description;
@@ -0,0 +1,22 @@
+package zerobase.reservation.type;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum ReservationStatus {
+    REQUESTED,
+    CONFIRMED,
+    REJECTED,
+    VISITED,
+    EXPIRED;
+
+    /**
+     * 아직 끝나지 않은(자리를 차지하고 있는) 예약 상태
+     */
+    public static final Set<ReservationStatus> ACTIVE = EnumSet.of(REQUESTED, CONFIRMED);
+
+    /**
+     * 더 이상 바뀌지 않는 예약 상태 (보관 테이블로 옮길 수 있음)
+     */
+    public static final Set<ReservationStatus> FINISHED = EnumSet.of(REJECTED, VISITED, EXPIRED);
+}
@@ -0,0 +1,126 @@
+-- 초기 스키마
+-- 인덱스는 리포지토리 쿼리 메서드의 @UsesIndex와 맞춰 둠 (기동 시 IndexCoverageVerifier가 확인).
+
+create sequence manager_seq start with 1 increment by 50 nocache;
+create sequence member_seq start with 1 increment by 50 nocache;
+create sequence reservation_seq start with 1 increment by 50 nocache;
+create sequence review_seq start with 1 increment by 50 nocache;
+create sequence store_seq start with 1 increment by 50 nocache;
+
+create table manager (
+    manager_id bigint not null,
+    name       varchar(255),
+    mail       varchar(255),
+    password   varchar(255),
+    role       varchar(255),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (manager_id),
+    constraint uk_manager_mail unique (mail)
+) engine = InnoDB;
+
+create table member (
+    id         bigint not null,
+    name       varchar(255),
+    mail       varchar(255),
+    password   varchar(255),
+    role       varchar(255),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_member_mail unique (mail)
+) engine = InnoDB;
+
+create table store (
+    id            bigint not null,
+    store_name    varchar(255),
+    location      varchar(255),
+    description   varchar(255),
+    latitude      float(53),
+    longitude     float(53),
+    slot_capacity integer not null,
+    manager_id    bigint,
+    created_at    datetime(6),
+    updated_at    datetime(6),
+    primary key (id),
+    constraint uk_store_store_name unique (store_name),
+    constraint fk_store_manager foreign key (manager_id) references manager (manager_id)
+) engine = InnoDB;
+
+create index idx_store_manager_id on store (manager_id);
+create index idx_store_latitude_longitude on store (latitude, longitude);
+
+create table reservation (
+    id              bigint not null,
+    reservation_num varchar(13),
+    reserved_at     datetime(6),
+    status          enum ('REQUESTED','CONFIRMED','REJECTED','VISITED','EXPIRED'),
+    member_id       bigint,
+    store_id        bigint,
+    primary key (id),
+    constraint uk_reservation_reservation_num unique (reservation_num),
+    constraint fk_reservation_member foreign key (member_id) references member (id),
+    constraint fk_reservation_store foreign key (store_id) references store (id)
+) engine = InnoDB;
+
+create index idx_reservation_member_store_status on reservation (member_id, store_id, status);
+create index idx_reservation_status_reserved_at on reservation (status, reserved_at);
+create index idx_reservation_store_reserved_at on reservation (store_id, reserved_at);
+
+-- 보관 테이블은 FK 없이 id만 보관 (회원/매장이 지워져도 이력은 남김)
+create table reservation_archive (
+    id              bigint not null,
+    reservation_num varchar(13),
+    reserved_at     datetime(6),
+    status          enum ('REQUESTED','CONFIRMED','REJECTED','VISITED','EXPIRED'),
+    member_id       bigint,
+    store_id        bigint,
+    archived_at     datetime(6),
+    primary key (id),
+    constraint uk_reservation_archive_reservation_num unique (reservation_num)
+) engine = InnoDB;
+
+create index idx_reservation_archive_store_reserved_at on reservation_archive (store_id, reserved_at);
+
+-- 기본 키를 (store_id, slot_at) 순서로 두어 매장별 기간 조회도 기본 키로 처리
+create table reservation_slot (
+    store_id bigint      not null,
+    slot_at  datetime(6) not null,
+    reserved integer     not null,
+    primary key (store_id, slot_at)
+) engine = InnoDB;
+
+create table review (
+    id         bigint not null,
+    text       varchar(255),
+    rating     integer not null,
+    member_id  bigint,
+    store_id   bigint,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_review_member foreign key (member_id) references member (id),
+    constraint fk_review_store foreign key (store_id) references store (id)
+) engine = InnoDB;
+
+create index idx_review_store_created_at on review (store_id, created_at);
+create index idx_review_member_id on review (member_id);
+
+create table store_rating (
+    store_id     bigint not null,
+    review_count bigint not null default 0,
+    rating_sum   bigint not null default 0,
+    rating1      bigint not null default 0,
+    rating2      bigint not null default 0,
+    rating3      bigint not null default 0,
+    rating4      bigint not null default 0,
+    rating5      bigint not null default 0,
+    primary key (store_id)
+) engine = InnoDB;
+
+create table scheduler_lock (
+    name         varchar(255) not null,
+    locked_until datetime(6),
+    locked_by    varchar(255),
+    primary key (name)
+) engine = InnoDB;
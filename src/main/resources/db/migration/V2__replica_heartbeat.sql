@@ -0,0 +1,6 @@
+-- 복제본 지연 측정용 (ReplicaLagMonitor가 기본 DB에 쓰고 복제본에서 읽음)
+create table replica_heartbeat (
+    id      integer     not null,
+    beat_at datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
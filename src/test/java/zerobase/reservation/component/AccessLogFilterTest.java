@@ -0,0 +1,62 @@
+package zerobase.reservation.component;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import zerobase.reservation.security.UserPrincipal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogFilterTest {
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private AccessLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("reservation.access-log.sample-rates.[/store/{storeId}/reviews]", "0");
+        filter = new AccessLogFilter(environment, 1.0, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void samplesByEndpointButKeepsErrors() throws Exception {
+        filter.doFilter(request("/store/{storeId}/reviews"), new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(appender.list).isEmpty();
+
+        MockHttpServletResponse error = new MockHttpServletResponse();
+        error.setStatus(500);
+        filter.doFilter(request("/store/{storeId}/reviews"), error, new MockFilterChain());
+        assertThat(appender.list).hasSize(1);
+
+        MockHttpServletRequest reserve = request("/customer/store/reserve");
+        reserve.setAttribute(AccessLogFilter.USER_ATTRIBUTE, new UserPrincipal(7L, "member@test.com", "ROLE_MEMBER"));
+        filter.doFilter(reserve, new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(appender.list).hasSize(2);
+        assertThat(appender.list.get(1).getFormattedMessage())
+                .startsWith("method=POST endpoint=/customer/store/reserve status=200 elapsedMs=")
+                .endsWith("role=ROLE_MEMBER userId=7");
+    }
+
+    private MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package zerobase.reservation.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationNumGeneratorTest {
+
+    @Test
+    void concurrentCallsNeverCollide() throws Exception {
+        ReservationNumGenerator generator = new ReservationNumGenerator(7);
+        int threads = 16;
+        int perThread = 50_000;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int j = 0; j < perThread; j++) {
+                    issued.add(generator.nextReservationNum());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        assertThat(issued).hasSize(threads * perThread);
+    }
+
+    @Test
+    void numbersAreFixedLengthAndTimeOrdered() {
+        ReservationNumGenerator generator = new ReservationNumGenerator(1);
+
+        String previous = generator.nextReservationNum();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.nextReservationNum();
+            assertThat(next).hasSize(13).doesNotContain("I", "L", "O", "U");
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void differentNodesProduceDifferentNumbers() {
+        long a = new ReservationNumGenerator(1).nextId();
+        long b = new ReservationNumGenerator(2).nextId();
+
+        assertThat(a).isNotEqualTo(b);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new ReservationNumGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
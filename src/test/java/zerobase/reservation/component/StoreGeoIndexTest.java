@@ -0,0 +1,127 @@
+package zerobase.reservation.component;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreGeoIndexTest {
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LON = 126.9780;
+
+    @Test
+    void matchesBruteForce() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 100, 0.01);
+        List<double[]> stores = new ArrayList<>();
+        Random random = new Random(42);
+        for (long id = 0; id < 20_000; id++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5);
+            double lon = SEOUL_LON + (random.nextDouble() - 0.5);
+            stores.add(new double[]{id, lat, lon});
+            index.put(id, "store" + id, lat, lon);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5);
+            double lon = SEOUL_LON + (random.nextDouble() - 0.5);
+
+            assertThat(ids(index.nearest(lat, lon, 10, 50))).isEqualTo(bruteForce(stores, lat, lon, 50, 10));
+            assertThat(ids(index.withinRadius(lat, lon, 2, 1000))).isEqualTo(bruteForce(stores, lat, lon, 2, 1000));
+        }
+    }
+
+    @Test
+    void acrossAntimeridian() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 100, 0.01);
+        index.put(1L, "east", 0, 179.999);
+        index.put(2L, "west", 0, -179.999);
+
+        assertThat(ids(index.nearest(0, 179.9999, 2, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.withinRadius(0, -179.9999, 1, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void moveAndRemove() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 100, 0.01);
+        index.put(1L, "store", SEOUL_LAT, SEOUL_LON);
+        index.put(1L, "store", 35.1796, 129.0756);
+
+        assertThat(index.withinRadius(SEOUL_LAT, SEOUL_LON, 10, 10)).isEmpty();
+        assertThat(ids(index.nearest(35.18, 129.07, 1, 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.nearest(35.18, 129.07, 1, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void reloadFollowsOtherNodes() {
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        StoreGeoIndex index = new StoreGeoIndex(storeRepository, 100, 0.01);
+        index.put(1L, "moved", SEOUL_LAT, SEOUL_LON);
+        index.put(2L, "deleted", SEOUL_LAT, SEOUL_LON);
+        index.put(3L, "local", SEOUL_LAT, SEOUL_LON);
+
+        //다른 서버에서 1번 이동, 2번 삭제, 4번 추가. 읽는 동안 이 서버에서 3번 이동(이벤트)
+        when(storeRepository.findLocationsAfter(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            index.onStoreChanged(new StoreChangedEvent(3L, "local", 35.1796, 129.0756, false));
+            return List.of(location(1L, "moved", 35.1796, 129.0756),
+                    location(3L, "local", SEOUL_LAT, SEOUL_LON),
+                    location(4L, "added", SEOUL_LAT, SEOUL_LON));
+        });
+        index.reload();
+
+        assertThat(ids(index.withinRadius(SEOUL_LAT, SEOUL_LON, 1, 10))).containsExactly(4L);
+        assertThat(ids(index.withinRadius(35.1796, 129.0756, 1, 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static StoreRepository.StoreLocation location(Long id, String storeName, double latitude, double longitude) {
+        return new StoreRepository.StoreLocation() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getStoreName() {
+                return storeName;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+    private static List<Long> bruteForce(List<double[]> stores, double lat, double lon, double radiusKm, int k) {
+        return stores.stream()
+                .filter(s -> StoreGeoIndex.distanceKm(lat, lon, s[1], s[2]) <= radiusKm)
+                .sorted(Comparator.comparingDouble(s -> StoreGeoIndex.distanceKm(lat, lon, s[1], s[2])))
+                .limit(k)
+                .map(s -> (long) s[0])
+                .toList();
+    }
+
+    private static List<Long> ids(List<StoreDto.NearbyStore> stores) {
+        return stores.stream().map(StoreDto.NearbyStore::getStoreId).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package zerobase.reservation.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.event.StoreChangedEvent;
+import zerobase.reservation.repository.StoreRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreNameIndexTest {
+    private StoreNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNameIndex(null, 100);
+        index.put(1L, "서가앤쿡");
+        index.put(2L, "스타벅스 강남점");
+        index.put(3L, "Burger King");
+        index.put(4L, "서울 갈비");
+    }
+
+    @Test
+    void prefix() {
+        assertThat(ids(index.search("서가", 10))).containsExactly(1L);
+        assertThat(ids(index.search("bur", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void wordStart() {
+        assertThat(ids(index.search("강남", 10))).containsExactly(2L);
+        assertThat(ids(index.search("king", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void chosung() {
+        assertThat(ids(index.search("ㅅㄱ", 10))).containsExactly(1L);
+        assertThat(ids(index.search("ㄱㅂ", 10))).containsExactly(4L);
+        assertThat(ids(index.search("ㅅ", 10))).containsExactlyInAnyOrder(1L, 2L, 4L);
+        //완성된 글자는 그대로 비교
+        assertThat(ids(index.search("서ㄱ", 10))).containsExactly(1L);
+        assertThat(ids(index.search("ㅅㅇㄱ", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void updateAndRemove() {
+        index.put(1L, "쿡앤서가");
+        assertThat(ids(index.search("서가", 10))).isEmpty();
+        assertThat(ids(index.search("쿡", 10))).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(ids(index.search("ㅅㅌ", 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void limit() {
+        assertThat(index.search("ㅅ", 2)).hasSize(2);
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void reloadFollowsOtherNodes() {
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        StoreNameIndex reloaded = new StoreNameIndex(storeRepository, 100);
+        reloaded.put(1L, "서가앤쿡");
+        reloaded.put(2L, "스타벅스 강남점");
+        reloaded.put(3L, "Burger King");
+
+        //다른 서버에서 1번 이름 변경, 2번 삭제, 5번 추가. 읽는 동안 이 서버에서 3번 삭제(이벤트)
+        when(storeRepository.findNamesAfter(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            reloaded.onStoreChanged(new StoreChangedEvent(3L, "Burger King", null, null, true));
+            return List.of(name(1L, "쿡앤서가"), name(3L, "Burger King"), name(5L, "서울 갈비"));
+        });
+        reloaded.reload();
+
+        assertThat(ids(reloaded.search("쿡", 10))).containsExactly(1L);
+        assertThat(ids(reloaded.search("서가", 10))).isEmpty();
+        assertThat(ids(reloaded.search("ㅅㅌ", 10))).isEmpty();
+        assertThat(ids(reloaded.search("bur", 10))).isEmpty();
+        assertThat(ids(reloaded.search("갈비", 10))).containsExactly(5L);
+        assertThat(reloaded.size()).isEqualTo(2);
+    }
+
+    private static StoreRepository.StoreName name(Long id, String storeName) {
+        return new StoreRepository.StoreName() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getStoreName() {
+                return storeName;
+            }
+        };
+    }
+
+    private static List<Long> ids(List<StoreDto.Suggestion> suggestions) {
+        return suggestions.stream().map(StoreDto.Suggestion::getStoreId).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package zerobase.reservation.component;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import zerobase.reservation.domain.StoreRating;
+import zerobase.reservation.event.ReviewChangedEvent;
+import zerobase.reservation.repository.StoreRatingRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StoreRatingRankingTest {
+
+    @Test
+    void matchesSortedAggregates() {
+        StoreRatingRanking ranking = new StoreRatingRanking(null, 100, 3);
+        Map<Long, long[]> aggregates = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long storeId = random.nextInt(2_000);
+            int rating = 1 + random.nextInt(5);
+            long[] aggregate = aggregates.computeIfAbsent(storeId, id -> new long[2]);
+            //가끔 리뷰 삭제
+            if (aggregate[0] > 1 && random.nextInt(10) == 0) {
+                aggregate[0]--;
+                aggregate[1] -= rating;
+                ranking.add(storeId, -1, -rating);
+            } else {
+                aggregate[0]++;
+                aggregate[1] += rating;
+                ranking.add(storeId, 1, rating);
+            }
+        }
+
+        List<Long> expected = new ArrayList<>();
+        aggregates.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] >= 3)
+                .sorted(Comparator.<Map.Entry<Long, long[]>>comparingDouble(
+                                entry -> -(double) entry.getValue()[1] / entry.getValue()[0])
+                        .thenComparing(entry -> -entry.getValue()[0])
+                        .thenComparing(Map.Entry::getKey))
+                .limit(20)
+                .forEach(entry -> expected.add(entry.getKey()));
+
+        assertThat(ranking.top(20).stream().map(StoreRatingRanking.Rating::storeId).toList())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void belowMinReviewsAndRemoved() {
+        StoreRatingRanking ranking = new StoreRatingRanking(null, 100, 2);
+        ranking.put(1L, 1, 5);
+        ranking.put(2L, 2, 8);
+        ranking.put(3L, 3, 9);
+
+        assertThat(ranking.top(10)).extracting(StoreRatingRanking.Rating::storeId).containsExactly(2L, 3L);
+
+        ranking.add(1L, 1, 5);
+        ranking.remove(2L);
+        assertThat(ranking.top(10)).extracting(StoreRatingRanking.Rating::storeId).containsExactly(1L, 3L);
+
+        ranking.add(3L, -3, -9);
+        assertThat(ranking.top(10)).extracting(StoreRatingRanking.Rating::storeId).containsExactly(1L);
+        assertThat(ranking.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadFollowsOtherNodes() {
+        StoreRatingRepository ratingRepository = mock(StoreRatingRepository.class);
+        StoreRatingRanking ranking = new StoreRatingRanking(ratingRepository, 100, 1);
+        ranking.put(1L, 1, 3);
+        ranking.put(2L, 1, 5);
+        ranking.put(3L, 1, 4);
+
+        //다른 서버에서 1번에 리뷰 추가, 2번 리뷰 모두 삭제. 읽는 동안 이 서버에서 3번에 리뷰 추가(이벤트)
+        when(ratingRepository.findAfter(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            ranking.onReviewChanged(new ReviewChangedEvent(3L, 1, 1));
+            return List.of(new StoreRating(1L, 2, 8, 0, 0, 1, 0, 1),
+                    new StoreRating(3L, 1, 4, 0, 0, 0, 1, 0));
+        });
+        ranking.reload();
+
+        assertThat(ranking.top(10)).containsExactly(
+                new StoreRatingRanking.Rating(1L, 2, 8),
+                new StoreRatingRanking.Rating(3L, 2, 5));
+    }
+}
@@ -0,0 +1,158 @@
+package zerobase.reservation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.component.ReadYourWritesTracker;
+import zerobase.reservation.component.ReplicaLagMonitor;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.type.Authority;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 DB / 복제본 분리 확인
+ * - H2 메모리 DB 두 개를 기본 DB와 복제본으로 두고, 복제는 heartbeat 행을 직접 옮겨 흉내 냄.
+ */
+class ReplicaRoutingDataSourceTest {
+    private static final long MAX_LAG_MILLIS = 2000;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate routed;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        long n = System.nanoTime();
+        DriverManagerDataSource primaryDataSource = dataSource("primary" + n);
+        DriverManagerDataSource replicaDataSource = dataSource("replica" + n);
+        primary = prepare(primaryDataSource, "primary");
+        replica = prepare(replicaDataSource, "replica");
+
+        lagMonitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, MAX_LAG_MILLIS, new SimpleMeterRegistry());
+        tracker = new ReadYourWritesTracker(5000, 100);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor, tracker);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        routed = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void primaryUntilReplicaHasHeartbeat() {
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isUsable()).isFalse();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyGoesToFreshReplica() {
+        lagMonitor.check();
+        replicate();
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isUsable()).isTrue();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void writerStaysOnPrimary() {
+        lagMonitor.check();
+        replicate();
+        lagMonitor.check();
+
+        UserPrincipal writer = new UserPrincipal(1L, "writer@test.com", Authority.ROLE_MEMBER.name());
+        tracker.markWrite(writer);
+        login(writer);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        //같은 id라도 역할이 다르면 다른 사용자
+        login(new UserPrincipal(1L, "manager@test.com", Authority.ROLE_MANAGER.name()));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsBypassed() {
+        replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(10)));
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isUsable()).isFalse();
+        assertThat(lagMonitor.getLagMillis()).isGreaterThan(MAX_LAG_MILLIS);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        //복제가 따라잡으면 다시 복제본으로
+        replicate();
+        lagMonitor.check();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> node());
+    }
+
+    private String node() {
+        return routed.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    /**
+     * 기본 DB의 heartbeat를 복제본으로 옮김 (방금 복제된 상태)
+     */
+    private void replicate() {
+        Timestamp beatAt = primary.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+        replica.update("DELETE FROM replica_heartbeat");
+        replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+    }
+
+    private static void login(UserPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    private static DriverManagerDataSource dataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static JdbcTemplate prepare(DriverManagerDataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE replica_heartbeat (id INTEGER NOT NULL PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return jdbcTemplate;
+    }
+}
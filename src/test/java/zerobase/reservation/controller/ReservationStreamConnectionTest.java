@@ -0,0 +1,73 @@
+package zerobase.reservation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.JwtAuthenticationFilter;
+import zerobase.reservation.security.TokenProvider;
+import zerobase.reservation.type.Authority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * SSE 구독이 DB 연결을 잡고 있지 않는지 확인
+ * - 커넥션 풀보다 많은 매장 스트림을 열어 둔 채로 다른 요청이 DB에 쓸 수 있어야 함.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stream;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.hikari.maximum-pool-size=" + ReservationStreamConnectionTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReservationStreamConnectionTest {
+    static final int POOL_SIZE = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TokenProvider tokenProvider;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Test
+    void streamsDoNotHoldConnections() throws Exception {
+        long n = System.nanoTime();
+        Manager manager = managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        String token = JwtAuthenticationFilter.TOKEN_PREFIX
+                + tokenProvider.generateToken(manager.getId(), manager.getMail(), manager.getRole());
+
+        //매장마다 캐시에 없어 DB를 읽게 함
+        List<MvcResult> streams = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE * 3; i++) {
+            Store store = storeRepository.save(Store.builder()
+                    .storeName("store" + n + "-" + i).location("seoul").description("desc")
+                    .slotCapacity(5).manager(manager).build());
+            streams.add(mockMvc.perform(get("/manager/reserve/stream/{storeId}", store.getId())
+                            .header(JwtAuthenticationFilter.TOKEN_HEADER, token))
+                    .andReturn());
+        }
+        assertThat(streams).allMatch(result -> result.getRequest().isAsyncStarted());
+
+        Store written = storeRepository.save(Store.builder()
+                .storeName("store" + n + "-after").location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+        assertThat(storeRepository.findById(written.getId())).isPresent();
+    }
+}
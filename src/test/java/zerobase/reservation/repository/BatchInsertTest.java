@@ -0,0 +1,124 @@
+package zerobase.reservation.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.Review;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 / 리뷰 일괄 저장이 JDBC batch로 나가는지 확인
+ * - 시퀀스 id(allocationSize 50)와 hibernate.jdbc.batch_size 50이면 N건 저장에
+ *   INSERT 문이 N/50개, 시퀀스 조회도 N/50번 정도만 준비됨 (IDENTITY였다면 INSERT만 N개).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchInsertTest {
+    private static final int COUNT = 500;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Member member;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long n = System.nanoTime();
+        Manager manager = managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        member = memberRepository.save(Member.builder()
+                .name("member" + n).mail("member" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        store = storeRepository.save(Store.builder()
+                .storeName("store" + n).location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+    }
+
+    @Test
+    void saveAllIsBatched() {
+        long statements = saveAll(null);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * COUNT);
+        //예약, 리뷰 각각 INSERT batch N/50개 + 시퀀스 조회 N/50번 (pooled 시퀀스의 첫 할당은 한 번 더 부를 수 있음)
+        assertThat(statements).isLessThanOrEqualTo(2L * (2L * COUNT / BATCH_SIZE + 2));
+    }
+
+    @Test
+    void withoutBatchingEachInsertIsAStatement() {
+        //같은 저장을 batch 없이 하면 INSERT마다 문장을 준비함 (위 테스트가 batch를 세고 있는지 대조)
+        long statements = saveAll(1);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * COUNT);
+        assertThat(statements).isGreaterThanOrEqualTo(2L * COUNT);
+    }
+
+    /**
+     * 예약, 리뷰를 COUNT건씩 saveAll 하고 준비된 문장 수를 돌려줌
+     */
+    private long saveAll(Integer sessionBatchSize) {
+        List<Reservation> reservations = new ArrayList<>(COUNT);
+        List<Review> reviews = new ArrayList<>(COUNT);
+        long n = System.nanoTime();
+        for (int i = 0; i < COUNT; i++) {
+            reservations.add(Reservation.builder()
+                    .reservationNum(Long.toString(n + i, 36))
+                    .reservedAt(LocalDateTime.now().plusDays(1))
+                    .status(ReservationStatus.REQUESTED)
+                    .member(member)
+                    .store(store)
+                    .build());
+            reviews.add(Review.builder()
+                    .member(member).store(store).text("text" + i).rating(i % 5 + 1).build());
+        }
+
+        statistics.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (sessionBatchSize != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(sessionBatchSize);
+            }
+            reservationRepository.saveAll(reservations);
+            reviewRepository.saveAll(reviews);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
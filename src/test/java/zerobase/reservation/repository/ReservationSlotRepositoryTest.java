@@ -0,0 +1,93 @@
+package zerobase.reservation.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.domain.ReservationSlot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationSlotRepositoryTest {
+    private static final int CAPACITY = 5;
+    private static final int ATTEMPTS = 3000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentAcquireKeepsExactCapacity() throws Exception {
+        Long storeId = 1L;
+        LocalDateTime slotAt = ReservationSlot.slotOf(LocalDateTime.of(2030, 1, 1, 12, 10));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                Integer updated = tx.execute(status -> {
+                    slotRepository.createIfAbsent(storeId, slotAt);
+                    return slotRepository.acquire(storeId, slotAt, CAPACITY);
+                });
+                if (updated != null && updated == 1) {
+                    admitted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        assertThat(admitted.get()).isEqualTo(CAPACITY);
+        assertThat(slotRepository.findById(new ReservationSlot.SlotId(storeId, slotAt)))
+                .get()
+                .extracting(ReservationSlot::getReserved)
+                .isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void releaseReturnsSeatsToTheSlot() {
+        Long storeId = 2L;
+        LocalDateTime slotAt = ReservationSlot.slotOf(LocalDateTime.of(2030, 1, 1, 18, 45));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            slotRepository.createIfAbsent(storeId, slotAt);
+            slotRepository.acquire(storeId, slotAt, 1);
+        });
+        Integer full = tx.execute(status -> slotRepository.acquire(storeId, slotAt, 1));
+        tx.executeWithoutResult(status -> slotRepository.release(storeId, slotAt, 1));
+        Integer reacquired = tx.execute(status -> slotRepository.acquire(storeId, slotAt, 1));
+
+        assertThat(full).isZero();
+        assertThat(reacquired).isEqualTo(1);
+    }
+}
@@ -0,0 +1,196 @@
+package zerobase.reservation.scheduler;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.dto.ReservationPageDto;
+import zerobase.reservation.dto.ReviewDto;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReservationArchiveRepository;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.service.ManagerService;
+import zerobase.reservation.service.MemberService;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationArchiveSchedulerTest {
+    private static final int ARCHIVED_ROWS = 50_000;
+    private static final long ARCHIVE_ID_BASE = 1_000_000_000L;
+
+    @Autowired
+    private ReservationArchiveScheduler archiveScheduler;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Manager manager;
+    private Member member;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        long n = System.nanoTime();
+        manager = managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        member = memberRepository.save(Member.builder()
+                .name("member" + n).mail("member" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        store = storeRepository.save(Store.builder()
+                .storeName("store" + n).location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+    }
+
+    @Test
+    void archiveFinishedReservations() {
+        LocalDateTime old = LocalDateTime.now().minusDays(60);
+        Reservation visited = saveReservation(ReservationStatus.VISITED, old);
+        Reservation expired = saveReservation(ReservationStatus.EXPIRED, old.plusHours(1));
+        //진행 중이거나 최근 예약은 그대로 남음
+        Reservation active = saveReservation(ReservationStatus.CONFIRMED, old.plusHours(2));
+        Reservation recent = saveReservation(ReservationStatus.VISITED, LocalDateTime.now().minusDays(1));
+
+        archiveScheduler.archiveFinished();
+
+        assertThat(reservationRepository.existsById(visited.getId())).isFalse();
+        assertThat(reservationRepository.existsById(expired.getId())).isFalse();
+        assertThat(archiveRepository.existsById(visited.getId())).isTrue();
+        assertThat(archiveRepository.existsById(expired.getId())).isTrue();
+        assertThat(reservationRepository.existsById(active.getId())).isTrue();
+        assertThat(reservationRepository.existsById(recent.getId())).isTrue();
+    }
+
+    @Test
+    void historyReadsAcrossBothTables() {
+        LocalDateTime old = LocalDateTime.now().minusDays(60);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(saveReservation(ReservationStatus.VISITED, old.plusHours(i)).getId());
+        }
+        expected.add(saveReservation(ReservationStatus.CONFIRMED, old.plusHours(3)).getId());
+        expected.add(saveReservation(ReservationStatus.REQUESTED, LocalDateTime.now().plusDays(1)).getId());
+        archiveScheduler.archiveFinished();
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReservationPageDto.Response page = managerService.searchReservation(store.getId(),
+                    ReservationPageDto.Request.builder().size(2).cursor(cursor).build(), managerPrincipal());
+            page.getItems().forEach(item -> actual.add(item.getReservationId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void reviewArchivedReservation() {
+        Reservation visited = saveReservation(ReservationStatus.VISITED, LocalDateTime.now().minusDays(60));
+        archiveScheduler.archiveFinished();
+
+        ReviewDto.Response response = memberService.addReview(
+                new ReviewDto.Request(visited.getReservationNum(), "good", 5),
+                new UserPrincipal(member.getId(), member.getMail(), member.getRole()));
+
+        assertThat(response.getStoreName()).isEqualTo(store.getStoreName());
+    }
+
+    @Test
+    void hotListingDoesNotReadArchive() {
+        seedArchive(ARCHIVED_ROWS);
+        List<Long> upcoming = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            upcoming.add(saveReservation(ReservationStatus.REQUESTED, LocalDateTime.now().plusDays(1).plusHours(i)).getId());
+        }
+        //매장 조회는 캐시에서
+        managerService.searchReservation(store.getId(), ReservationPageDto.Request.builder().build(), managerPrincipal());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //보관 기준일 이후(오늘부터) 페이지는 reservation 테이블만 읽음
+        statistics.clear();
+        ReservationPageDto.Response hot = managerService.searchReservation(store.getId(),
+                ReservationPageDto.Request.builder().from(LocalDate.now()).build(), managerPrincipal());
+        assertThat(hot.getItems()).extracting(ReservationPageDto.Item::getReservationId)
+                .containsExactlyElementsOf(upcoming);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Arrays.asList(statistics.getQueries())).noneMatch(query -> query.contains("ReservationArchive"));
+
+        //대조: 보관 기준일 이전부터 보면 보관 테이블도 읽음
+        statistics.clear();
+        managerService.searchReservation(store.getId(),
+                ReservationPageDto.Request.builder().size(1).build(), managerPrincipal());
+        assertThat(Arrays.asList(statistics.getQueries())).anyMatch(query -> query.contains("ReservationArchive"));
+    }
+
+    /**
+     * 이 매장의 지난 예약 rows건을 보관 테이블에 바로 넣음
+     */
+    private void seedArchive(int rows) {
+        LocalDateTime first = LocalDateTime.now().minusYears(3);
+        long base = ARCHIVE_ID_BASE + store.getId() * rows;
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long id = base + i;
+            batch.add(new Object[]{id, "A" + Long.toString(id, 36), Timestamp.valueOf(first.plusMinutes(10L * i)),
+                    ReservationStatus.VISITED.name(), member.getId(), store.getId(), Timestamp.valueOf(first)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_archive " +
+                "(id, reservation_num, reserved_at, status, member_id, store_id, archived_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    private UserPrincipal managerPrincipal() {
+        return new UserPrincipal(manager.getId(), manager.getMail(), manager.getRole());
+    }
+
+    private Reservation saveReservation(ReservationStatus status, LocalDateTime reservedAt) {
+        return reservationRepository.save(Reservation.builder()
+                .reservationNum(Long.toString(System.nanoTime(), 36))
+                .reservedAt(reservedAt)
+                .status(status)
+                .member(member)
+                .store(store)
+                .build());
+    }
+}
@@ -0,0 +1,198 @@
+package zerobase.reservation.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.ReservationSlot;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.dto.ReservationConfirm;
+import zerobase.reservation.exception.ManagerException;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.ReservationSlotRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.service.ManagerService;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationExpireSchedulerTest {
+    private static final int OTHER_SEATS = 3;
+
+    @Autowired
+    private ReservationExpireScheduler expireScheduler;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotRepository slotRepository;
+
+    @Autowired
+    private ManagerService managerService;
+
+    private Manager manager;
+    private Member member;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        long n = System.nanoTime();
+        manager = managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        member = memberRepository.save(Member.builder()
+                .name("member" + n).mail("member" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        store = storeRepository.save(Store.builder()
+                .storeName("store" + n).location("seoul").description("desc")
+                .slotCapacity(20).manager(manager).build());
+    }
+
+    @Test
+    void overlappingRunsReleaseEachSeatOnce() throws Exception {
+        LocalDateTime reservedAt = ReservationSlot.slotOf(LocalDateTime.now().minusHours(2));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(saveReservation(i % 2 == 0 ? ReservationStatus.REQUESTED : ReservationStatus.CONFIRMED,
+                    reservedAt).getId());
+        }
+        //만료 대상 외에 다른 예약이 잡고 있는 자리도 있어야 이중 반환이 0 아래로 막히지 않고 드러남
+        slotRepository.save(new ReservationSlot(store.getId(), reservedAt, ids.size() + OTHER_SEATS));
+
+        //임대가 넘어가 두 서버가 같은 chunk를 처리하는 상황: 첫 번째가 커밋하기 전에 두 번째가 시작
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<Integer> first = pool.submit(() -> tx.execute(status -> {
+            int expired = expireScheduler.expireChunk(ids);
+            await(secondStarted);
+            sleep();
+            return expired;
+        }));
+        Future<Integer> second = pool.submit(() -> {
+            secondStarted.countDown();
+            return tx.execute(status -> expireScheduler.expireChunk(ids));
+        });
+        int expired = first.get(30, TimeUnit.SECONDS) + second.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertThat(expired).isEqualTo(ids.size());
+        assertThat(reservationRepository.findAllById(ids))
+                .allMatch(r -> r.getStatus() == ReservationStatus.EXPIRED);
+        assertThat(slotRepository.findById(new ReservationSlot.SlotId(store.getId(), reservedAt)))
+                .get()
+                .extracting(ReservationSlot::getReserved)
+                .isEqualTo(OTHER_SEATS);
+    }
+
+    @Test
+    void skipsReservationsProcessedInTheMeantime() {
+        LocalDateTime reservedAt = ReservationSlot.slotOf(LocalDateTime.now().minusHours(2));
+        Reservation requested = saveReservation(ReservationStatus.REQUESTED, reservedAt);
+        Reservation visited = saveReservation(ReservationStatus.VISITED, reservedAt);
+        slotRepository.save(new ReservationSlot(store.getId(), reservedAt, 2));
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Integer expired = tx.execute(status -> expireScheduler.expireChunk(List.of(requested.getId(), visited.getId())));
+
+        assertThat(expired).isEqualTo(1);
+        assertThat(reservationRepository.findById(visited.getId())).get()
+                .extracting(Reservation::getStatus)
+                .isEqualTo(ReservationStatus.VISITED);
+        assertThat(slotRepository.findById(new ReservationSlot.SlotId(store.getId(), reservedAt)))
+                .get()
+                .extracting(ReservationSlot::getReserved)
+                .isEqualTo(1);
+    }
+
+    @Test
+    void confirmLosingToSweeperDoesNotReleaseAgain() throws Exception {
+        LocalDateTime reservedAt = ReservationSlot.slotOf(LocalDateTime.now().minusHours(2));
+        Reservation reservation = saveReservation(ReservationStatus.REQUESTED, reservedAt);
+        slotRepository.save(new ReservationSlot(store.getId(), reservedAt, 1 + OTHER_SEATS));
+
+        //만료 처리가 행을 잠근 동안 점장이 같은 예약을 거절
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<Integer> sweep = pool.submit(() -> tx.execute(status -> {
+            int expired = expireScheduler.expireChunk(List.of(reservation.getId()));
+            locked.countDown();
+            sleep();
+            return expired;
+        }));
+        locked.await();
+        ReservationConfirm reject = new ReservationConfirm(reservation.getId(), store.getId(), false);
+        Future<?> confirm = pool.submit(() -> managerService.confirmReservation(reject,
+                new UserPrincipal(manager.getId(), manager.getMail(), manager.getRole())));
+
+        assertThat(sweep.get(30, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThatThrownBy(() -> confirm.get(30, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ManagerException.class);
+        pool.shutdown();
+
+        assertThat(reservationRepository.findById(reservation.getId())).get()
+                .extracting(Reservation::getStatus)
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(slotRepository.findById(new ReservationSlot.SlotId(store.getId(), reservedAt)))
+                .get()
+                .extracting(ReservationSlot::getReserved)
+                .isEqualTo(OTHER_SEATS);
+    }
+
+    private Reservation saveReservation(ReservationStatus status, LocalDateTime reservedAt) {
+        return reservationRepository.save(Reservation.builder()
+                .reservationNum(Long.toString(System.nanoTime(), 36))
+                .reservedAt(reservedAt)
+                .status(status)
+                .member(member)
+                .store(store)
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
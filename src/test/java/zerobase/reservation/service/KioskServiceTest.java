@@ -0,0 +1,56 @@
+package zerobase.reservation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import zerobase.reservation.exception.ReservationException;
+import zerobase.reservation.repository.ReservationRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 키오스크 방문 확인 메트릭 확인
+ * - 결과별 kiosk.checkin 타이머에 나뉘어 쌓이는지 봄.
+ */
+class KioskServiceTest {
+    private SimpleMeterRegistry registry;
+    private ReservationRepository reservationRepository;
+    private KioskService kioskService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        reservationRepository = mock(ReservationRepository.class);
+        kioskService = new KioskService(reservationRepository, registry, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void recordsOutcome() {
+        when(reservationRepository.checkIn(anyString(), any())).thenReturn(1);
+        kioskService.confirmReservation("a");
+
+        when(reservationRepository.checkIn(anyString(), any())).thenReturn(0);
+        when(reservationRepository.findCheckInStateByReservationNum("b")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> kioskService.confirmReservation("b")).isInstanceOf(ReservationException.class);
+
+        when(reservationRepository.checkIn(anyString(), any())).thenThrow(new QueryTimeoutException("timeout"));
+        assertThatThrownBy(() -> kioskService.confirmReservation("c")).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(count("VISITED")).isEqualTo(1);
+        assertThat(count("RESERVE_NOT_FOUND")).isEqualTo(1);
+        assertThat(count("ERROR")).isEqualTo(1);
+    }
+
+    private long count(String outcome) {
+        return registry.get("kiosk.checkin").tag("outcome", outcome).timer().count();
+    }
+}
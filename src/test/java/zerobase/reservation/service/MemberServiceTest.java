@@ -0,0 +1,106 @@
+package zerobase.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Review;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.exception.MemberException;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReviewRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.type.Authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static zerobase.reservation.type.ErrorCode.UNMATCHED_MEMBER_REVIEW;
+
+/**
+ * 리뷰 삭제 권한 확인
+ * - 작성한 회원과 그 매장의 점장만 지울 수 있음.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceTest {
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Manager manager;
+    private Member member;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        manager = saveManager();
+        member = saveMember();
+        Store store = saveStore(manager);
+        review = reviewRepository.save(Review.builder()
+                .member(member).store(store).text("text").rating(4).build());
+    }
+
+    @Test
+    void writerDeletesReview() {
+        memberService.deleteReview(review.getId(), principal(member.getId(), member.getMail(), member.getRole()));
+
+        assertThat(reviewRepository.findById(review.getId())).isEmpty();
+    }
+
+    @Test
+    void storeManagerDeletesReview() {
+        memberService.deleteReview(review.getId(), principal(manager.getId(), manager.getMail(), manager.getRole()));
+
+        assertThat(reviewRepository.findById(review.getId())).isEmpty();
+    }
+
+    @Test
+    void otherStoreManagerCannotDelete() {
+        Manager other = saveManager();
+        saveStore(other);
+
+        assertThatThrownBy(() -> memberService.deleteReview(review.getId(),
+                principal(other.getId(), other.getMail(), other.getRole())))
+                .isInstanceOf(MemberException.class)
+                .extracting(e -> ((MemberException) e).getErrorCode())
+                .isEqualTo(UNMATCHED_MEMBER_REVIEW);
+        assertThat(reviewRepository.findById(review.getId())).isPresent();
+    }
+
+    private static UserPrincipal principal(Long id, String mail, String role) {
+        return new UserPrincipal(id, mail, role);
+    }
+
+    private Manager saveManager() {
+        long n = System.nanoTime();
+        return managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+    }
+
+    private Member saveMember() {
+        long n = System.nanoTime();
+        return memberRepository.save(Member.builder()
+                .name("member" + n).mail("member" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+    }
+
+    private Store saveStore(Manager owner) {
+        return storeRepository.save(Store.builder()
+                .storeName("store" + System.nanoTime()).location("seoul").description("desc")
+                .slotCapacity(5).manager(owner).build());
+    }
+}
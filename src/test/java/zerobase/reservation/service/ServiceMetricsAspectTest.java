@@ -0,0 +1,63 @@
+package zerobase.reservation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import zerobase.reservation.component.ServiceMetricsAspect;
+import zerobase.reservation.exception.MemberException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static zerobase.reservation.type.ErrorCode.RESERVE_IS_FULL;
+
+/**
+ * 서비스 메트릭 태그 확인
+ * - service 패키지 안의 대상 클래스를 AOP 프록시로 감싸 결과별 타이머가 따로 쌓이는지 봄.
+ */
+class ServiceMetricsAspectTest {
+    private SimpleMeterRegistry registry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void recordsOutcomeAndErrorCode() {
+        service.reserve(false);
+        service.reserve(false);
+        assertThatThrownBy(() -> service.reserve(true)).isInstanceOf(MemberException.class);
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(count("reserve", "success", "none")).isEqualTo(2);
+        assertThat(count("reserve", "rejected", RESERVE_IS_FULL.name())).isEqualTo(1);
+        assertThat(count("reserve", "error", "none")).isEqualTo(0);
+        assertThat(count("fail", "error", "none")).isEqualTo(1);
+    }
+
+    private long count(String method, String outcome, String errorCode) {
+        return registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tags("class", "SampleService", "method", method, "outcome", outcome, "errorCode", errorCode)
+                .timer()
+                .count();
+    }
+
+    static class SampleService {
+        public String reserve(boolean full) {
+            if (full) {
+                throw new MemberException(RESERVE_IS_FULL);
+            }
+            return "ok";
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package zerobase.reservation.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import zerobase.reservation.domain.Manager;
+import zerobase.reservation.domain.Member;
+import zerobase.reservation.domain.Reservation;
+import zerobase.reservation.domain.Review;
+import zerobase.reservation.domain.Store;
+import zerobase.reservation.dto.ReservationConfirm;
+import zerobase.reservation.dto.ReservationConfirmBulk;
+import zerobase.reservation.dto.ReservationDto;
+import zerobase.reservation.dto.ReservationPageDto;
+import zerobase.reservation.dto.ReviewDto;
+import zerobase.reservation.dto.StoreDto;
+import zerobase.reservation.repository.ManagerRepository;
+import zerobase.reservation.repository.MemberRepository;
+import zerobase.reservation.repository.ReservationRepository;
+import zerobase.reservation.repository.ReviewRepository;
+import zerobase.reservation.repository.StoreRepository;
+import zerobase.reservation.security.UserPrincipal;
+import zerobase.reservation.type.Authority;
+import zerobase.reservation.type.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 메소드별 실행되는 SQL 문 개수 확인
+ * - Hibernate 통계의 PreparedStatement 수를 세서 N+1 같은 쿼리 증가를 잡아냄.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceQueryCountTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static boolean sequencesWarmedUp;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private KioskService kioskService;
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Manager manager;
+    private Member member;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int n = SEQUENCE.incrementAndGet();
+        manager = managerRepository.save(Manager.builder()
+                .name("manager" + n).mail("manager" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MANAGER.name()).build());
+        member = memberRepository.save(Member.builder()
+                .name("member" + n).mail("member" + n + "@test.com").password("pw")
+                .role(Authority.ROLE_MEMBER.name()).build());
+        store = storeRepository.save(Store.builder()
+                .storeName("store" + n).location("seoul").description("desc")
+                .slotCapacity(5).manager(manager).build());
+
+        //pooled 시퀀스는 처음 두 번 할당 쿼리를 보내므로 측정 구간에 섞이지 않도록 미리 두 번씩 저장
+        if (!sequencesWarmedUp) {
+            for (int i = 0; i < 2; i++) {
+                storeRepository.save(Store.builder().storeName("warm-up" + SEQUENCE.incrementAndGet())
+                        .slotCapacity(5).manager(manager).build());
+                saveReservation(ReservationStatus.VISITED, LocalDateTime.now().minusDays(1));
+                saveReview();
+            }
+            sequencesWarmedUp = true;
+        }
+        //저장하면서 채워진 2차 캐시를 비워 캐시가 없는 상태부터 측정
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void addReservation() {
+        ReservationDto request = ReservationDto.builder()
+                .storeName(store.getStoreName())
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .build();
+
+        assertThat(countStatements(() -> memberService.addReservation(memberPrincipal(), request)))
+                .isEqualTo(5);
+    }
+
+    @Test
+    void addReservationCachedStore() {
+        storeService.searchStore(store.getStoreName());
+        ReservationDto request = ReservationDto.builder()
+                .storeName(store.getStoreName())
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .build();
+
+        //매장 조회는 캐시에서
+        assertThat(countStatements(() -> memberService.addReservation(memberPrincipal(), request)))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void addReview() {
+        Reservation reservation = saveReservation(ReservationStatus.VISITED, LocalDateTime.now().minusHours(1));
+        ReviewDto.Request request = ReviewDto.Request.builder()
+                .reservationNum(reservation.getReservationNum()).text("good").rating(5).build();
+
+        //예약 조회, 리뷰 insert, 평점 집계 upsert
+        assertThat(countStatements(() -> memberService.addReview(request, memberPrincipal())))
+                .isEqualTo(3);
+        StoreDto.RatingSummary summary = storeService.getRatingSummary(store.getId());
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getHistogram().get(5)).isEqualTo(1);
+    }
+
+    @Test
+    void updateReview() {
+        Review review = saveReview();
+        ReviewDto.Request request = ReviewDto.Request.builder().text("changed").rating(2).build();
+
+        assertThat(countStatements(() -> memberService.updateReview(review.getId(), request, memberPrincipal())))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void deleteReview() {
+        Review review = saveReview();
+
+        assertThat(countStatements(() -> memberService.deleteReview(review.getId(), memberPrincipal())))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void addStore() {
+        StoreDto.AddStoreRequest request = new StoreDto.AddStoreRequest(
+                "new-store" + SEQUENCE.incrementAndGet(), "busan", "desc", 3, 35.1, 129.0, null);
+
+        assertThat(countStatements(() -> managerService.addStore(request, managerPrincipal())))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void updateStore() {
+        StoreDto.UpdateStoreRequest request = new StoreDto.UpdateStoreRequest(
+                store.getStoreName(), "incheon", "changed", null, 37.4, 126.7);
+
+        assertThat(countStatements(() -> managerService.updateStore(store.getId(), request, managerPrincipal())))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void deleteStore() {
+        assertThat(countStatements(() -> managerService.deleteStore(store.getId(), managerPrincipal())))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void searchManagerStores() {
+        saveReservation(ReservationStatus.CONFIRMED, LocalDateTime.now().plusHours(1));
+        saveReservation(ReservationStatus.VISITED, LocalDateTime.now().withHour(0).withMinute(1));
+        saveReview();
+
+        List<List<StoreDto.ManagerStoreResponse>> result = new ArrayList<>();
+        assertThat(countStatements(() -> result.add(managerService.searchStore(managerPrincipal()))))
+                .isEqualTo(1);
+        StoreDto.ManagerStoreResponse response = result.get(0).stream()
+                .filter(s -> s.getStoreId().equals(store.getId())).findFirst().orElseThrow();
+        assertThat(response.getUpcomingReservationCount()).isEqualTo(1);
+        assertThat(response.getTodayVisitCount()).isEqualTo(1);
+        assertThat(response.getReviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchReservation() {
+        saveReservation(ReservationStatus.REQUESTED, LocalDateTime.now().plusHours(1));
+        saveReservation(ReservationStatus.CONFIRMED, LocalDateTime.now().plusHours(2));
+        saveReservation(ReservationStatus.CONFIRMED, LocalDateTime.now().plusHours(3));
+
+        //보관 기준일 이후 구간만 보면 보관 테이블은 조회하지 않음
+        ReservationPageDto.Request first = ReservationPageDto.Request.builder().from(LocalDate.now()).size(2).build();
+        List<ReservationPageDto.Response> pages = new ArrayList<>();
+        assertThat(countStatements(() -> pages.add(managerService.searchReservation(store.getId(), first, managerPrincipal()))))
+                .isEqualTo(2);
+        assertThat(pages.get(0).getItems()).hasSize(2);
+        assertThat(pages.get(0).getNextCursor()).isNotNull();
+
+        ReservationPageDto.Request next = ReservationPageDto.Request.builder()
+                .from(LocalDate.now()).size(2).cursor(pages.get(0).getNextCursor()).build();
+        ReservationPageDto.Response last = managerService.searchReservation(store.getId(), next, managerPrincipal());
+        assertThat(last.getItems()).hasSize(1);
+        assertThat(last.getNextCursor()).isNull();
+
+        ReservationPageDto.Request confirmed = ReservationPageDto.Request.builder()
+                .status(Set.of(ReservationStatus.CONFIRMED)).build();
+        assertThat(managerService.searchReservation(store.getId(), confirmed, managerPrincipal()).getItems())
+                .hasSize(2);
+    }
+
+    @Test
+    void confirmReservation() {
+        Reservation reservation = saveReservation(ReservationStatus.REQUESTED, LocalDateTime.now().plusHours(1));
+        ReservationConfirm request = new ReservationConfirm(reservation.getId(), store.getId(), true);
+
+        assertThat(countStatements(() -> managerService.confirmReservation(request, managerPrincipal())))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void confirmReservations() {
+        //건수와 상관없이 매장 + 대상 조회 + 승인/거절 UPDATE + 시간대별 정원 반환
+        LocalDateTime first = LocalDateTime.now().plusDays(1).withMinute(0);
+        List<ReservationConfirmBulk.Item> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Reservation reservation = saveReservation(ReservationStatus.REQUESTED, first.plusHours(i % 2));
+            items.add(new ReservationConfirmBulk.Item(reservation.getId(), i < 10));
+        }
+        Reservation processed = saveReservation(ReservationStatus.CONFIRMED, first);
+        items.add(new ReservationConfirmBulk.Item(processed.getId(), true));
+        ReservationConfirmBulk.Request request = new ReservationConfirmBulk.Request(store.getId(), items);
+
+        List<List<ReservationConfirmBulk.Result>> results = new ArrayList<>();
+        assertThat(countStatements(() -> results.add(managerService.confirmReservations(request, managerPrincipal()))))
+                .isEqualTo(6);
+        assertThat(results.get(0)).hasSize(21);
+        assertThat(results.get(0).stream().filter(ReservationConfirmBulk.Result::isSuccess)).hasSize(20);
+        assertThat(reservationRepository.findById(items.get(19).getReservationId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.REJECTED);
+    }
+
+    @Test
+    void kioskConfirmReservation() {
+        Reservation reservation = saveReservation(ReservationStatus.CONFIRMED, LocalDateTime.now().plusMinutes(5));
+
+        assertThat(countStatements(() -> kioskService.confirmReservation(reservation.getReservationNum())))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void kioskConfirmReservationRetry() {
+        Reservation reservation = saveReservation(ReservationStatus.CONFIRMED, LocalDateTime.now().plusMinutes(5));
+        kioskService.confirmReservation(reservation.getReservationNum());
+
+        assertThat(countStatements(() -> kioskService.confirmReservation(reservation.getReservationNum())))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void searchStore() {
+        assertThat(countStatements(() -> storeService.searchStore(store.getStoreName())))
+                .isEqualTo(1);
+        assertThat(countStatements(() -> storeService.searchStore(store.getStoreName())))
+                .isEqualTo(0);
+    }
+
+    @Test
+    void secondLevelCache() {
+        //mail 조회는 쿼리 캐시, 매장 조회는 엔티티 캐시에서 꺼내 DB 왕복이 없음
+        assertThat(countStatements(() -> memberRepository.findByMail(member.getMail())))
+                .isEqualTo(1);
+        assertThat(countStatements(() -> memberRepository.findByMail(member.getMail())))
+                .isEqualTo(0);
+
+        StoreDto.UpdateStoreRequest request = new StoreDto.UpdateStoreRequest(
+                store.getStoreName(), "incheon", "changed", null, 37.4, 126.7);
+        assertThat(countStatements(() -> managerService.updateStore(store.getId(), request, managerPrincipal())))
+                .isEqualTo(2);
+        //수정된 매장도 캐시에 반영되어 두 번째 수정은 UPDATE 만 실행
+        StoreDto.UpdateStoreRequest again = new StoreDto.UpdateStoreRequest(
+                store.getStoreName(), "busan", "changed", null, 35.1, 129.0);
+        assertThat(countStatements(() -> managerService.updateStore(store.getId(), again, managerPrincipal())))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void getAvailability() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(6);
+        //처음에는 매장 + 시간대 적재, 이후에는 모두 메모리에서
+        assertThat(countStatements(() -> storeService.getAvailability(store.getId(), from, to)))
+                .isEqualTo(2);
+        assertThat(countStatements(() -> storeService.getAvailability(store.getId(), from, to)))
+                .isEqualTo(0);
+    }
+
+    @Test
+    void getReviews() {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            reviews.add(saveReview());
+        }
+
+        //처음에는 매장 + 첫 페이지, 이후 첫 페이지는 캐시에서
+        List<ReviewDto.FeedResponse> pages = new ArrayList<>();
+        assertThat(countStatements(() -> pages.add(storeService.getReviews(store.getId(), null, null))))
+                .isEqualTo(2);
+        assertThat(countStatements(() -> storeService.getReviews(store.getId(), null, null)))
+                .isEqualTo(0);
+        assertThat(pages.get(0).getItems()).hasSize(20);
+
+        assertThat(countStatements(() -> pages.add(
+                storeService.getReviews(store.getId(), pages.get(0).getNextCursor(), null))))
+                .isEqualTo(1);
+        assertThat(pages.get(1).getItems()).hasSize(5);
+        assertThat(pages.get(1).getNextCursor()).isNull();
+
+        //리뷰가 삭제되면 첫 페이지 캐시도 지워짐
+        memberService.deleteReview(reviews.get(24).getId(), memberPrincipal());
+        assertThat(countStatements(() -> storeService.getReviews(store.getId(), null, null)))
+                .isEqualTo(1);
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UserPrincipal memberPrincipal() {
+        return new UserPrincipal(member.getId(), member.getMail(), member.getRole());
+    }
+
+    private UserPrincipal managerPrincipal() {
+        return new UserPrincipal(manager.getId(), manager.getMail(), manager.getRole());
+    }
+
+    private Reservation saveReservation(ReservationStatus status, LocalDateTime reservedAt) {
+        return reservationRepository.save(Reservation.builder()
+                .reservationNum("T" + SEQUENCE.incrementAndGet())
+                .reservedAt(reservedAt)
+                .status(status)
+                .member(member)
+                .store(store)
+                .build());
+    }
+
+    private Review saveReview() {
+        return reviewRepository.save(Review.builder()
+                .member(member)
+                .store(store)
+                .text("text")
+                .rating(4)
+                .build());
+    }
+}